@@ -0,0 +1,56 @@
+package io.smallrye.reactive.converters;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Helpers reading the outcome of already completed {@link CompletionStage}s.
+ * <p>
+ * {@link ReactiveTypeConverter#fromCompletionStage(CompletionStage)} implementations use them to return instances
+ * created from a known item or failure, instead of instances waiting for the stage completion.
+ */
+public final class CompletedStages {
+
+    private CompletedStages() {
+        // Avoid direct instantiation.
+    }
+
+    /**
+     * @param stage the stage, must not be {@code null}
+     * @param <X> the type of result
+     * @return the given stage if it is a completed {@link CompletableFuture}, {@code null} otherwise
+     */
+    public static <X> CompletableFuture<X> completed(CompletionStage<X> stage) {
+        if (stage instanceof CompletableFuture) {
+            CompletableFuture<X> future = (CompletableFuture<X>) stage;
+            if (future.isDone()) {
+                return future;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets the failure of a completed future. Failures wrapped into a {@link CompletionException} are unwrapped. A
+     * cancelled future fails with a {@link CancellationException}.
+     *
+     * @param future the completed future, must not be {@code null}
+     * @return the failure, {@code null} if the future has been completed successfully
+     */
+    public static Throwable failure(CompletableFuture<?> future) {
+        if (!future.isCompletedExceptionally()) {
+            return null;
+        }
+        try {
+            future.getNow(null);
+        } catch (CompletionException e) {
+            return e.getCause() == null ? e : e.getCause();
+        } catch (CancellationException e) {
+            return e;
+        }
+        // Not reached, the future has been completed exceptionally
+        return new IllegalStateException("The future has not been completed exceptionally");
+    }
+}
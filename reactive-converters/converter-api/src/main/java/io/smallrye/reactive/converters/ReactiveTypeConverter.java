@@ -88,6 +88,32 @@ public interface ReactiveTypeConverter<T> {
      */
     <X> Publisher<X> toRSPublisher(T instance);
 
+    /**
+     * Transforms an instance of {@code T} whose outcome is known without subscribing, such as an instance created
+     * from a constant item or failure, to an already completed {@link CompletionStage}.
+     * <p>
+     * This method is used by the {@link Registry#converter(Class, Class)} functions to avoid going through a
+     * {@link Publisher} when converting such instances. It must not have side effects:
+     *
+     * <ul>
+     * <li>If the passed {@code instance} emits a single non-{@code null} value, the returned {@link CompletionStage}
+     * is completed with this value.</li>
+     * <li>If the passed {@code instance} fails without emitting a value, the returned {@link CompletionStage} is
+     * completed with this failure.</li>
+     * <li>Otherwise, including when the outcome is unknown or when the {@code instance} is empty, {@code null} is
+     * returned.</li>
+     * </ul>
+     * <p>
+     * The default implementation returns {@code null}.
+     *
+     * @param instance the instance to convert. Must not be {@code null}.
+     * @param <X> the type used to complete the returned {@link CompletionStage}.
+     * @return a completed {@link CompletionStage}, {@code null} if the outcome of the {@code instance} is not known.
+     */
+    default <X> CompletionStage<X> toCompletedStage(T instance) {
+        return null;
+    }
+
     /**
      * Transforms an instance of {@link CompletionStage} to an instance of {@code T}. The value emitted by {@code T}
      * depends on the completion of the passed {@link CompletionStage}. Each converter instances can use specific rules,
@@ -110,7 +136,8 @@ public interface ReactiveTypeConverter<T> {
      * </ul>
      * <p>
      * Implementations must not expect the {@link CompletionStage} to be instances of
-     * {@link java.util.concurrent.CompletableFuture}.
+     * {@link java.util.concurrent.CompletableFuture}. However, they may return an instance created from the item or
+     * failure of an already completed {@link java.util.concurrent.CompletableFuture}, see {@link CompletedStages}.
      * <p>
      * Implementations may decide to adapt the emitted result when receiving container object such as {@link Optional}.
      *
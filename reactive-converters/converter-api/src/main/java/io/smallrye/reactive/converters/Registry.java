@@ -1,32 +1,262 @@
 package io.smallrye.reactive.converters;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.stream.StreamSupport;
+import java.util.function.Function;
 
+import org.reactivestreams.Publisher;
+
+import io.smallrye.reactive.converters.index.ConverterIndexProcessor;
+
+/**
+ * Registry of the {@link ReactiveTypeConverter}.
+ * <p>
+ * The converters are declared as services. When a module also contains a converter index, generated at build time by
+ * the {@link ConverterIndexProcessor}, its converters are only instantiated when a matching type is looked up.
+ * Otherwise, they are instantiated when the registry is initialized.
+ * <p>
+ * The result of a lookup, including the absence of converter, is cached per class until a converter is registered.
+ */
 public class Registry {
 
-    private static final List<ReactiveTypeConverter> converters;
+    /**
+     * The location of the converter indexes. Each line is formatted as {@code converter-class=converted-type}.
+     */
+    public static final String INDEX_RESOURCE = "META-INF/smallrye-reactive-converters.idx";
+
+    private static final String SERVICES_RESOURCE = "META-INF/services/" + ReactiveTypeConverter.class.getName();
+
+    private static final List<Entry> converters;
+
+    private static volatile LookupCache cache = new LookupCache();
 
     static {
         converters = new CopyOnWriteArrayList<>();
-        // Load the converters from the service loader.
-        StreamSupport.stream(ServiceLoader.load(ReactiveTypeConverter.class).spliterator(), false)
-                .forEach(converters::add);
+        load();
     }
 
     private Registry() {
         // Avoid direct instantiation.
     }
 
+    @SuppressWarnings({ "unchecked", "rawtypes" })
     public static <T> Optional<ReactiveTypeConverter<T>> lookup(Class<T> input) {
-        return converters.stream().filter(entry -> entry.type().isAssignableFrom(Objects.requireNonNull(input)))
-                .map(fc -> (ReactiveTypeConverter<T>) fc)
-                .findAny();
+        return (Optional) cache.get(Objects.requireNonNull(input));
     }
 
+    /**
+     * Looks up the converters of the given types and composes them into a function converting the instances of
+     * {@code source} to instances of {@code target}.
+     * <p>
+     * The returned function resolves the converters once. Instances already being instances of {@code target} are
+     * returned as they are. Instances whose outcome is known without subscribing (see
+     * {@link ReactiveTypeConverter#toCompletedStage(Object)}) are converted through a completed
+     * {@link CompletionStage}. Other instances are converted through a {@link Publisher}.
+     *
+     * @param source the type of the converted instances, must not be {@code null}
+     * @param target the type of the produced instances, must not be {@code null}
+     * @param <A> the source type
+     * @param <B> the target type
+     * @return the conversion function, empty if there are no converters for {@code source} or {@code target}
+     */
+    public static <A, B> Optional<Function<A, B>> converter(Class<A> source, Class<B> target) {
+        Objects.requireNonNull(target);
+        Optional<ReactiveTypeConverter<A>> from = lookup(source);
+        Optional<ReactiveTypeConverter<B>> to = lookup(target);
+        if (!from.isPresent() || !to.isPresent()) {
+            return Optional.empty();
+        }
+        return Optional.of(new Conversion<>(from.get(), to.get(), target));
+    }
+
+    /**
+     * Registers the given converters. They take precedence over the converters declared as services and the
+     * converters registered previously.
+     *
+     * @param fcs the converters
+     */
     public static void register(ReactiveTypeConverter... fcs) {
-        Collections.addAll(converters, fcs);
+        List<Entry> entries = new ArrayList<>(fcs.length);
+        for (ReactiveTypeConverter fc : fcs) {
+            entries.add(new Entry(fc));
+        }
+        converters.addAll(0, entries);
+        // The cached results, including the misses, may be outdated
+        cache = new LookupCache();
+    }
+
+    private static Optional<ReactiveTypeConverter<?>> find(Class<?> input) {
+        Set<String> hierarchy = null;
+        for (Entry entry : converters) {
+            ReactiveTypeConverter<?> converter = entry.converter;
+            if (converter == null) {
+                // Only instantiate the converter if the input may match, without loading the converted type
+                if (hierarchy == null) {
+                    hierarchy = hierarchy(input);
+                }
+                if (!hierarchy.contains(entry.typeName)) {
+                    continue;
+                }
+                converter = entry.get();
+            }
+            if (converter.type().isAssignableFrom(input)) {
+                return Optional.of(converter);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static Set<String> hierarchy(Class<?> type) {
+        Set<String> names = new HashSet<>();
+        Deque<Class<?>> queue = new ArrayDeque<>();
+        queue.add(type);
+        while (!queue.isEmpty()) {
+            Class<?> current = queue.poll();
+            if (names.add(current.getName())) {
+                if (current.getSuperclass() != null) {
+                    queue.add(current.getSuperclass());
+                }
+                Collections.addAll(queue, current.getInterfaces());
+            }
+        }
+        return names;
+    }
+
+    private static void load() {
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        if (loader == null) {
+            loader = Registry.class.getClassLoader();
+        }
+
+        Set<String> indexed = new HashSet<>();
+        for (String line : readLines(loader, INDEX_RESOURCE)) {
+            int separator = line.indexOf('=');
+            if (separator <= 0) {
+                throw new ServiceConfigurationError("Invalid converter index entry: " + line);
+            }
+            String converterName = line.substring(0, separator).trim();
+            if (indexed.add(converterName)) {
+                converters.add(new Entry(converterName, line.substring(separator + 1).trim(), loader));
+            }
+        }
+
+        Set<String> declared = new LinkedHashSet<>(readLines(loader, SERVICES_RESOURCE));
+        declared.removeAll(indexed);
+        for (String converterName : declared) {
+            converters.add(new Entry(instantiate(converterName, loader)));
+        }
+    }
+
+    private static List<String> readLines(ClassLoader loader, String resource) {
+        List<String> lines = new ArrayList<>();
+        try {
+            Enumeration<URL> urls = loader.getResources(resource);
+            while (urls.hasMoreElements()) {
+                try (InputStream stream = urls.nextElement().openStream();
+                        BufferedReader reader = new BufferedReader(
+                                new InputStreamReader(stream, StandardCharsets.UTF_8))) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        int comment = line.indexOf('#');
+                        if (comment >= 0) {
+                            line = line.substring(0, comment);
+                        }
+                        line = line.trim();
+                        if (!line.isEmpty()) {
+                            lines.add(line);
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new ServiceConfigurationError("Unable to read " + resource, e);
+        }
+        return lines;
+    }
+
+    private static ReactiveTypeConverter<?> instantiate(String converterName, ClassLoader loader) {
+        try {
+            Class<?> clazz = Class.forName(converterName, false, loader);
+            return (ReactiveTypeConverter<?>) clazz.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | ClassCastException | LinkageError e) {
+            throw new ServiceConfigurationError("Unable to instantiate the converter " + converterName, e);
+        }
+    }
+
+    private static final class Conversion<A, B> implements Function<A, B> {
+
+        private final ReactiveTypeConverter<A> from;
+        private final ReactiveTypeConverter<B> to;
+        private final Class<B> target;
+
+        Conversion(ReactiveTypeConverter<A> from, ReactiveTypeConverter<B> to, Class<B> target) {
+            this.from = from;
+            this.to = to;
+            this.target = target;
+        }
+
+        @Override
+        public B apply(A instance) {
+            if (target.isInstance(Objects.requireNonNull(instance))) {
+                return target.cast(instance);
+            }
+            CompletionStage<Object> completed = from.toCompletedStage(instance);
+            if (completed != null) {
+                return to.fromCompletionStage(completed);
+            }
+            return to.fromPublisher(from.toRSPublisher(instance));
+        }
+    }
+
+    private static final class LookupCache extends ClassValue<Optional<ReactiveTypeConverter<?>>> {
+
+        @Override
+        protected Optional<ReactiveTypeConverter<?>> computeValue(Class<?> type) {
+            return find(type);
+        }
+    }
+
+    private static final class Entry {
+
+        private final String typeName;
+        private final String converterName;
+        private final ClassLoader loader;
+
+        private volatile ReactiveTypeConverter<?> converter;
+
+        Entry(ReactiveTypeConverter<?> converter) {
+            this.converter = Objects.requireNonNull(converter);
+            this.typeName = converter.type().getName();
+            this.converterName = converter.getClass().getName();
+            this.loader = null;
+        }
+
+        Entry(String converterName, String typeName, ClassLoader loader) {
+            this.converterName = converterName;
+            this.typeName = typeName;
+            this.loader = loader;
+        }
+
+        ReactiveTypeConverter<?> get() {
+            ReactiveTypeConverter<?> instance = converter;
+            if (instance == null) {
+                synchronized (this) {
+                    instance = converter;
+                    if (instance == null) {
+                        instance = instantiate(converterName, loader);
+                        converter = instance;
+                    }
+                }
+            }
+            return instance;
+        }
     }
 
 }
@@ -0,0 +1,136 @@
+package io.smallrye.reactive.converters.index;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+import io.smallrye.reactive.converters.ReactiveTypeConverter;
+import io.smallrye.reactive.converters.Registry;
+
+/**
+ * Annotation processor generating the converter index read by the {@link Registry}.
+ * <p>
+ * The index lists the public, concrete {@link ReactiveTypeConverter} implementations of the compiled module, along with
+ * their converted type, so the registry only instantiates a converter when a matching type is looked up. The converters
+ * must still be declared as services, the index is an optimization.
+ * <p>
+ * The processor is not discovered automatically, it must be declared in the compiler configuration of the converter
+ * modules.
+ */
+@SupportedAnnotationTypes("*")
+public class ConverterIndexProcessor extends AbstractProcessor {
+
+    private final Map<String, String> index = new TreeMap<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            if (!index.isEmpty()) {
+                write();
+            }
+            return false;
+        }
+        TypeElement converterElement = processingEnv.getElementUtils()
+                .getTypeElement(ReactiveTypeConverter.class.getName());
+        if (converterElement == null) {
+            return false;
+        }
+        for (TypeElement type : ElementFilter.typesIn(roundEnv.getRootElements())) {
+            collect(type, converterElement);
+        }
+        return false;
+    }
+
+    private void collect(TypeElement type, TypeElement converterElement) {
+        for (TypeElement nested : ElementFilter.typesIn(type.getEnclosedElements())) {
+            if (nested.getModifiers().contains(Modifier.STATIC)) {
+                collect(nested, converterElement);
+            }
+        }
+        if (type.getKind() != ElementKind.CLASS || !type.getModifiers().contains(Modifier.PUBLIC)
+                || type.getModifiers().contains(Modifier.ABSTRACT) || !hasPublicNoArgConstructor(type)) {
+            return;
+        }
+        TypeMirror convertedType = findConvertedType(type.asType(), converterElement);
+        if (convertedType != null) {
+            TypeElement convertedElement = (TypeElement) processingEnv.getTypeUtils().asElement(convertedType);
+            index.put(binaryName(type), binaryName(convertedElement));
+        }
+    }
+
+    private boolean hasPublicNoArgConstructor(TypeElement type) {
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            if (constructor.getParameters().isEmpty() && constructor.getModifiers().contains(Modifier.PUBLIC)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the erased type argument of {@link ReactiveTypeConverter} implemented by {@code type}, {@code null} if
+     *         {@code type} is not a converter or if the converted type cannot be determined
+     */
+    private TypeMirror findConvertedType(TypeMirror type, TypeElement converterElement) {
+        for (TypeMirror supertype : processingEnv.getTypeUtils().directSupertypes(type)) {
+            if (supertype.getKind() != TypeKind.DECLARED) {
+                continue;
+            }
+            DeclaredType declared = (DeclaredType) supertype;
+            if (declared.asElement().equals(converterElement)) {
+                if (declared.getTypeArguments().size() != 1) {
+                    return null;
+                }
+                TypeMirror argument = processingEnv.getTypeUtils().erasure(declared.getTypeArguments().get(0));
+                return argument.getKind() == TypeKind.DECLARED ? argument : null;
+            }
+            TypeMirror found = findConvertedType(supertype, converterElement);
+            if (found != null) {
+                return found;
+            }
+        }
+        return null;
+    }
+
+    private String binaryName(TypeElement element) {
+        return processingEnv.getElementUtils().getBinaryName(element).toString();
+    }
+
+    private void write() {
+        try {
+            FileObject resource = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+                    Registry.INDEX_RESOURCE);
+            try (Writer writer = resource.openWriter(); PrintWriter out = new PrintWriter(writer)) {
+                out.println("# Generated by " + ConverterIndexProcessor.class.getName());
+                index.forEach((converter, type) -> out.println(converter + "=" + type));
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Unable to write the converter index: " + e.getMessage());
+        }
+    }
+}
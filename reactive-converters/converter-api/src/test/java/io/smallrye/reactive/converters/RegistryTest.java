@@ -2,7 +2,10 @@ package io.smallrye.reactive.converters;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.Deque;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 import org.junit.Test;
 import org.reactivestreams.Publisher;
@@ -16,6 +19,150 @@ public class RegistryTest {
         assertThat(Registry.lookup(CompletionStage.class)).isNotEmpty().containsInstanceOf(Myconverter.class);
     }
 
+    @Test
+    public void testCachedMissIsInvalidatedByRegistration() {
+        assertThat(Registry.lookup(Number.class)).isEmpty();
+        assertThat(Registry.lookup(Integer.class)).isEmpty();
+        Registry.register(new SimpleConverter<>(Number.class));
+        assertThat(Registry.lookup(Number.class)).isNotEmpty().containsInstanceOf(SimpleConverter.class);
+        assertThat(Registry.lookup(Integer.class)).isNotEmpty().containsInstanceOf(SimpleConverter.class);
+        assertThat(Registry.lookup(Integer.class).get()).isSameAs(Registry.lookup(Long.class).get());
+    }
+
+    @Test
+    public void testRegisteredConverterTakesPrecedence() {
+        SimpleConverter<Deque> first = new SimpleConverter<>(Deque.class);
+        SimpleConverter<Deque> second = new SimpleConverter<>(Deque.class);
+        Registry.register(first);
+        assertThat(Registry.lookup(Deque.class)).containsSame(first);
+        Registry.register(second);
+        assertThat(Registry.lookup(Deque.class)).containsSame(second);
+    }
+
+    @Test
+    public void testConverterComposition() {
+        assertThat(Registry.converter(StringBuilder.class, Appendable.class)).isEmpty();
+        Registry.register(new SimpleConverter<>(Appendable.class));
+        Function<StringBuilder, Appendable> function = Registry.converter(StringBuilder.class, Appendable.class)
+                .orElseThrow(() -> new AssertionError("The conversion should be supported"));
+        StringBuilder instance = new StringBuilder();
+        assertThat(function.apply(instance)).isSameAs(instance);
+    }
+
+    @Test
+    public void testIndexedConverterIsInstantiatedOnFirstMatchingLookup() {
+        assertThat(Registry.lookup(String.class)).isEmpty();
+        assertThat(IndexedConverter.INSTANCES).hasValue(0);
+
+        assertThat(Registry.lookup(IndexedSubType.class)).isNotEmpty().containsInstanceOf(IndexedConverter.class);
+        assertThat(Registry.lookup(IndexedType.class)).isNotEmpty().containsInstanceOf(IndexedConverter.class);
+        assertThat(IndexedConverter.INSTANCES).hasValue(1);
+    }
+
+    public static class IndexedType {
+    }
+
+    public static class IndexedSubType extends IndexedType {
+    }
+
+    public static class IndexedConverter implements ReactiveTypeConverter<IndexedType> {
+
+        static final AtomicInteger INSTANCES = new AtomicInteger();
+
+        public IndexedConverter() {
+            INSTANCES.incrementAndGet();
+        }
+
+        @Override
+        public <X> CompletionStage<X> toCompletionStage(IndexedType instance) {
+            return null;
+        }
+
+        @Override
+        public <X> Publisher<X> toRSPublisher(IndexedType instance) {
+            return null;
+        }
+
+        @Override
+        public <X> IndexedType fromCompletionStage(CompletionStage<X> cs) {
+            return null;
+        }
+
+        @Override
+        public <X> IndexedType fromPublisher(Publisher<X> publisher) {
+            return null;
+        }
+
+        @Override
+        public Class<IndexedType> type() {
+            return IndexedType.class;
+        }
+
+        @Override
+        public boolean emitItems() {
+            return true;
+        }
+
+        @Override
+        public boolean emitAtMostOneItem() {
+            return true;
+        }
+
+        @Override
+        public boolean supportNullValue() {
+            return false;
+        }
+    }
+
+    private static class SimpleConverter<T> implements ReactiveTypeConverter<T> {
+
+        private final Class<T> type;
+
+        SimpleConverter(Class<T> type) {
+            this.type = type;
+        }
+
+        @Override
+        public <X> CompletionStage<X> toCompletionStage(T instance) {
+            return null;
+        }
+
+        @Override
+        public <X> Publisher<X> toRSPublisher(T instance) {
+            return null;
+        }
+
+        @Override
+        public <X> T fromCompletionStage(CompletionStage<X> cs) {
+            return null;
+        }
+
+        @Override
+        public <X> T fromPublisher(Publisher<X> publisher) {
+            return null;
+        }
+
+        @Override
+        public Class<T> type() {
+            return type;
+        }
+
+        @Override
+        public boolean emitItems() {
+            return true;
+        }
+
+        @Override
+        public boolean emitAtMostOneItem() {
+            return true;
+        }
+
+        @Override
+        public boolean supportNullValue() {
+            return false;
+        }
+    }
+
     @SuppressWarnings("rawtypes")
     private static class Myconverter implements ReactiveTypeConverter<CompletionStage> {
 
@@ -56,6 +56,18 @@ public abstract class FromCompletionStageTCK<T> {
                 .isInstanceOf(BoomException.class);
     }
 
+    @Test
+    public void testWithImmediateWrappedFailure() {
+        CompletableFuture<String> future = new CompletableFuture<>();
+        future.completeExceptionally(new CompletionException(new BoomException()));
+        T instance = converter()
+                .fromCompletionStage(future);
+
+        Exception e = getFailure(instance);
+        assertThat(e).isNotNull()
+                .isInstanceOf(BoomException.class);
+    }
+
     @Test
     public void testWithAsynchronousFailure() {
         T instance = converter()
@@ -112,6 +124,17 @@ public abstract class FromCompletionStageTCK<T> {
                 .isInstanceOf(CancellationException.class);
     }
 
+    @Test
+    public void testWhenTheCompletionStageIsCancelledBeforeTheConversion() {
+        CompletableFuture<String> future = new CompletableFuture<>();
+        future.cancel(false);
+        T instance = converter().fromCompletionStage(future);
+
+        Exception exception = getFailure(instance);
+        assertThat(exception)
+                .isInstanceOf(CancellationException.class);
+    }
+
     @Test
     public void testWithACompletionStageNotCompleting() throws InterruptedException {
         CompletionStage<String> never = new CompletableFuture<>();
@@ -6,6 +6,7 @@ import static org.assertj.core.api.Assertions.fail;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.Test;
 
@@ -52,6 +53,22 @@ public abstract class ToCompletionStageTCK<T> {
         assertThat(res).contains(uuid);
     }
 
+    @Test
+    public void testThatImmediateValueIsNotPublishedOnAnotherThread() {
+        Optional<T> instance = createInstanceEmittingASingleValueImmediately(UUID.randomUUID().toString());
+        if (!instance.isPresent()) {
+            // Test ignored.
+            return;
+        }
+        CompletionStage<String> stage = converter().toCompletionStage(instance.get());
+        // Completed before returning, not later on another thread
+        assertThat(stage.toCompletableFuture().isDone()).isTrue();
+        AtomicReference<Thread> thread = new AtomicReference<>();
+        stage.whenComplete((res, err) -> thread.set(Thread.currentThread()))
+                .toCompletableFuture().join();
+        assertThat(thread.get()).isSameAs(Thread.currentThread());
+    }
+
     @Test
     public void testWithAsynchronousValue() {
         String uuid = UUID.randomUUID().toString();
@@ -77,6 +94,20 @@ public abstract class ToCompletionStageTCK<T> {
         }
     }
 
+    @Test
+    public void testThatImmediateFailureIsNotPublishedOnAnotherThread() {
+        T instance = createInstanceFailingImmediately(new BoomException());
+        CompletionStage<Object> stage = converter().toCompletionStage(instance);
+        // Completed before returning, not later on another thread
+        assertThat(stage.toCompletableFuture().isDone()).isTrue();
+        AtomicReference<Thread> thread = new AtomicReference<>();
+        CompletableFuture<Object> future = stage
+                .whenComplete((res, err) -> thread.set(Thread.currentThread()))
+                .toCompletableFuture();
+        assertThat(future).isCompletedExceptionally();
+        assertThat(thread.get()).isSameAs(Thread.currentThread());
+    }
+
     @Test
     public void testWithAsynchronousFailure() {
         T instance = createInstanceFailingAsynchronously(new BoomException());
@@ -211,4 +242,43 @@ public abstract class ToCompletionStageTCK<T> {
         assertThat(val).isNull();
     }
 
+    @Test
+    public void testCompletedStageWithImmediateValue() {
+        String uuid = UUID.randomUUID().toString();
+        Optional<T> instance = createInstanceEmittingASingleValueImmediately(uuid);
+        if (!instance.isPresent()) {
+            // Test ignored.
+            return;
+        }
+        CompletionStage<String> stage = converter().toCompletedStage(instance.get());
+        if (stage != null) {
+            assertThat(stage.toCompletableFuture()).isCompletedWithValue(uuid);
+        }
+    }
+
+    @Test
+    public void testCompletedStageWithImmediateFailure() {
+        T instance = createInstanceFailingImmediately(new BoomException());
+        CompletionStage<String> stage = converter().toCompletedStage(instance);
+        if (stage != null) {
+            assertThat(stage.toCompletableFuture()).isCompletedExceptionally();
+            try {
+                stage.toCompletableFuture().join();
+                fail("Exception expected");
+            } catch (CompletionException e) {
+                assertThat(e.getCause()).isInstanceOf(BoomException.class);
+            }
+        }
+    }
+
+    @Test
+    public void testCompletedStageIsNotProvidedWhenTheOutcomeIsUnknown() {
+        Optional<T> never = never();
+        never.ifPresent(instance -> assertThat(converter().<String> toCompletedStage(instance)).isNull());
+        Optional<T> async = createInstanceEmittingASingleValueAsynchronously(UUID.randomUUID().toString());
+        async.ifPresent(instance -> assertThat(converter().<String> toCompletedStage(instance)).isNull());
+        Optional<T> empty = empty();
+        empty.ifPresent(instance -> assertThat(converter().<String> toCompletedStage(instance)).isNull());
+    }
+
 }
@@ -1,22 +1,56 @@
 package io.smallrye.reactive.converters.microprofile;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 
 import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
 import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
 import org.reactivestreams.Publisher;
 
 import io.smallrye.mutiny.Multi;
+import io.smallrye.reactive.converters.CompletedStages;
 import io.smallrye.reactive.converters.ReactiveTypeConverter;
+import io.smallrye.reactive.converters.Registry;
 
+/**
+ * Converter handling the MicroProfile Reactive Streams Operators {@link PublisherBuilder} type.
+ * <p>
+ * By default, the {@link CompletionStage} returned by {@link #toCompletionStage(PublisherBuilder)} is completed on the
+ * thread emitting the first item of the stream, the caller thread if the stream emits synchronously. A converter
+ * completing it on a given {@link Executor} can be created with {@link #PublisherBuilderConverter(Executor)} and
+ * registered with {@link Registry#register(ReactiveTypeConverter[])}.
+ */
 @SuppressWarnings("rawtypes")
 public class PublisherBuilderConverter implements ReactiveTypeConverter<PublisherBuilder> {
+
+    private final Executor executor;
+
+    public PublisherBuilderConverter() {
+        this(null);
+    }
+
+    /**
+     * @param executor the executor completing the {@link CompletionStage} returned by
+     *        {@link #toCompletionStage(PublisherBuilder)}, {@code null} to complete it on the thread emitting the first
+     *        item
+     */
+    public PublisherBuilderConverter(Executor executor) {
+        this.executor = executor;
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public <X> CompletionStage<X> toCompletionStage(PublisherBuilder instance) {
-        return instance.findFirst().run().thenApplyAsync(x -> ((Optional) x).orElse(null));
+        CompletionStage<Optional<X>> first = instance.findFirst().run();
+        Function<Optional<X>, X> unwrap = x -> x.orElse(null);
+        if (executor == null) {
+            return first.thenApply(unwrap);
+        }
+        return first.thenApplyAsync(unwrap, executor);
     }
 
     @SuppressWarnings("unchecked")
@@ -27,6 +61,15 @@ public class PublisherBuilderConverter implements ReactiveTypeConverter<Publishe
 
     @Override
     public <X> PublisherBuilder fromCompletionStage(CompletionStage<X> cs) {
+        CompletableFuture<X> completed = CompletedStages.completed(cs);
+        if (completed != null) {
+            Throwable failure = CompletedStages.failure(completed);
+            if (failure != null) {
+                return ReactiveStreams.failed(failure);
+            }
+            X item = completed.getNow(null);
+            return item == null ? ReactiveStreams.failed(new NullPointerException()) : ReactiveStreams.of(item);
+        }
         return ReactiveStreams.fromPublisher(Multi.createFrom().emitter(emitter -> cs.whenComplete((X v, Throwable e) -> {
             if (e != null) {
                 emitter.fail(e instanceof CompletionException ? e.getCause() : e);
@@ -0,0 +1,32 @@
+package io.smallrye.reactive.converters.microprofile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
+import org.junit.Test;
+
+public class PublisherBuilderConverterExecutorTest {
+
+    @Test
+    public void testThatTheCompletionStageIsCompletedOnTheSuppliedExecutor() {
+        AtomicInteger executions = new AtomicInteger();
+        Executor executor = command -> {
+            executions.incrementAndGet();
+            command.run();
+        };
+        PublisherBuilderConverter converter = new PublisherBuilderConverter(executor);
+        String value = converter.<String> toCompletionStage(ReactiveStreams.of("hello")).toCompletableFuture().join();
+        assertThat(value).isEqualTo("hello");
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    public void testThatTheCompletionStageIsCompletedOnTheCallerThreadByDefault() {
+        PublisherBuilderConverter converter = new PublisherBuilderConverter();
+        assertThat(converter.<String> toCompletionStage(ReactiveStreams.of("hello")).toCompletableFuture())
+                .isCompletedWithValue("hello");
+    }
+}
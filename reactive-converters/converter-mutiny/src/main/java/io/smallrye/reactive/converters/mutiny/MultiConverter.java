@@ -1,11 +1,13 @@
 package io.smallrye.reactive.converters.mutiny;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 
 import org.reactivestreams.Publisher;
 
 import io.smallrye.mutiny.Multi;
+import io.smallrye.reactive.converters.CompletedStages;
 import io.smallrye.reactive.converters.ReactiveTypeConverter;
 
 @SuppressWarnings("rawtypes")
@@ -25,6 +27,15 @@ public class MultiConverter implements ReactiveTypeConverter<Multi> {
 
     @Override
     public <X> Multi fromCompletionStage(CompletionStage<X> cs) {
+        CompletableFuture<X> completed = CompletedStages.completed(cs);
+        if (completed != null) {
+            Throwable failure = CompletedStages.failure(completed);
+            if (failure != null) {
+                return Multi.createFrom().failure(failure);
+            }
+            X item = completed.getNow(null);
+            return item == null ? Multi.createFrom().empty() : Multi.createFrom().item(item);
+        }
         return Multi.createFrom().completionStage(cs)
                 .onFailure(CompletionException.class).transform(Throwable::getCause);
     }
@@ -1,11 +1,13 @@
 package io.smallrye.reactive.converters.mutiny;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 
 import org.reactivestreams.Publisher;
 
 import io.smallrye.mutiny.Uni;
+import io.smallrye.reactive.converters.CompletedStages;
 import io.smallrye.reactive.converters.ReactiveTypeConverter;
 
 @SuppressWarnings("rawtypes")
@@ -25,6 +27,14 @@ public class UniConverter implements ReactiveTypeConverter<Uni> {
 
     @Override
     public <X> Uni fromCompletionStage(CompletionStage<X> cs) {
+        CompletableFuture<X> completed = CompletedStages.completed(cs);
+        if (completed != null) {
+            Throwable failure = CompletedStages.failure(completed);
+            if (failure != null) {
+                return Uni.createFrom().failure(failure);
+            }
+            return Uni.createFrom().item(completed.getNow(null));
+        }
         return Uni.createFrom().completionStage(cs)
                 .onFailure(CompletionException.class).transform(Throwable::getCause);
     }
@@ -1,10 +1,12 @@
 package io.smallrye.reactive.converters.reactor;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 
 import org.reactivestreams.Publisher;
 
+import io.smallrye.reactive.converters.CompletedStages;
 import io.smallrye.reactive.converters.ReactiveTypeConverter;
 import reactor.core.publisher.Flux;
 
@@ -23,8 +25,22 @@ public class FluxConverter implements ReactiveTypeConverter<Flux> {
         return instance;
     }
 
+    @Override
+    public <X> CompletionStage<X> toCompletedStage(Flux instance) {
+        return Scalars.toCompletedStage(instance);
+    }
+
     @Override
     public <X> Flux fromCompletionStage(CompletionStage<X> cs) {
+        CompletableFuture<X> completed = CompletedStages.completed(cs);
+        if (completed != null) {
+            Throwable failure = CompletedStages.failure(completed);
+            if (failure != null) {
+                return Flux.error(failure);
+            }
+            X item = completed.getNow(null);
+            return item == null ? Flux.empty() : Flux.just(item);
+        }
         return Flux.create(sink -> cs.whenComplete((X v, Throwable e) -> {
             if (e != null) {
                 sink.error(e instanceof CompletionException ? e.getCause() : e);
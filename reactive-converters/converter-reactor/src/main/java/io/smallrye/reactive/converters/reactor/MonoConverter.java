@@ -1,10 +1,12 @@
 package io.smallrye.reactive.converters.reactor;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 
 import org.reactivestreams.Publisher;
 
+import io.smallrye.reactive.converters.CompletedStages;
 import io.smallrye.reactive.converters.ReactiveTypeConverter;
 import reactor.core.publisher.Mono;
 
@@ -23,8 +25,22 @@ public class MonoConverter implements ReactiveTypeConverter<Mono> {
         return instance;
     }
 
+    @Override
+    public <X> CompletionStage<X> toCompletedStage(Mono instance) {
+        return Scalars.toCompletedStage(instance);
+    }
+
     @Override
     public <X> Mono fromCompletionStage(CompletionStage<X> cs) {
+        CompletableFuture<X> completed = CompletedStages.completed(cs);
+        if (completed != null) {
+            Throwable failure = CompletedStages.failure(completed);
+            if (failure != null) {
+                return Mono.error(failure);
+            }
+            X item = completed.getNow(null);
+            return item == null ? Mono.empty() : Mono.just(item);
+        }
         return Mono.create(sink -> cs.whenComplete((X v, Throwable e) -> {
             if (e != null) {
                 sink.error(e instanceof CompletionException ? e.getCause() : e);
@@ -0,0 +1,37 @@
+package io.smallrye.reactive.converters.reactor;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import reactor.core.Exceptions;
+import reactor.core.Fuseable;
+
+/**
+ * Reads the outcome of the Reactor instances created from a constant item or failure, such as
+ * {@code Mono.just(item)} or {@code Mono.error(failure)}.
+ */
+final class Scalars {
+
+    private Scalars() {
+        // Avoid direct instantiation.
+    }
+
+    @SuppressWarnings("unchecked")
+    static <X> CompletionStage<X> toCompletedStage(Object instance) {
+        if (instance instanceof Fuseable.ScalarCallable) {
+            CompletableFuture<X> future = new CompletableFuture<>();
+            try {
+                // Empty instances return null, failed instances throw their failure
+                Object item = ((Fuseable.ScalarCallable<?>) instance).call();
+                if (item == null) {
+                    return null;
+                }
+                future.complete((X) item);
+            } catch (Exception e) {
+                future.completeExceptionally(Exceptions.unwrap(e));
+            }
+            return future;
+        }
+        return null;
+    }
+}
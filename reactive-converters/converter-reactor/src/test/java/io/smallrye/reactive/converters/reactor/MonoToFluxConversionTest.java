@@ -0,0 +1,52 @@
+package io.smallrye.reactive.converters.reactor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.smallrye.reactive.converters.Registry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public class MonoToFluxConversionTest {
+
+    private Function<Mono, Flux> conversion;
+
+    @Before
+    public void lookup() {
+        conversion = Registry.converter(Mono.class, Flux.class)
+                .orElseThrow(() -> new AssertionError("Mono to Flux conversion should be found"));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testWithConstantValue() {
+        Flux<String> flux = conversion.apply(Mono.just("hello"));
+        assertThat(flux.collectList().block()).containsExactly("hello");
+    }
+
+    @Test
+    public void testWithConstantFailure() {
+        Flux<?> flux = conversion.apply(Mono.error(new IllegalStateException("boom")));
+        assertThatThrownBy(flux::blockLast).isInstanceOf(IllegalStateException.class).hasMessage("boom");
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testWithEmptyMono() {
+        Flux<String> flux = conversion.apply(Mono.empty());
+        assertThat(flux.collectList().block()).isEmpty();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testWithAsynchronousValue() {
+        Flux<String> flux = conversion.apply(Mono.just("hello").delayElement(Duration.ofMillis(10)));
+        assertThat(flux.collectList().block()).containsExactly("hello");
+    }
+}
@@ -8,6 +8,7 @@ import java.util.concurrent.CompletionStage;
 import org.reactivestreams.Publisher;
 
 import hu.akarnokd.rxjava.interop.RxJavaInterop;
+import io.smallrye.reactive.converters.CompletedStages;
 import io.smallrye.reactive.converters.ReactiveTypeConverter;
 import rx.Completable;
 
@@ -56,6 +57,14 @@ public class CompletableConverter implements ReactiveTypeConverter<Completable>
 
     @Override
     public Completable fromCompletionStage(CompletionStage cs) {
+        CompletableFuture<?> completed = CompletedStages.completed(cs);
+        if (completed != null) {
+            Throwable failure = CompletedStages.failure(completed);
+            if (failure != null) {
+                return Completable.error(failure);
+            }
+            return Completable.complete();
+        }
         CompletionStage<?> future = Objects.requireNonNull(cs);
         return Completable
                 .create(emitter -> future.whenComplete((Object res, Throwable err) -> {
@@ -7,6 +7,7 @@ import java.util.concurrent.CompletionStage;
 import org.reactivestreams.Publisher;
 
 import hu.akarnokd.rxjava.interop.RxJavaInterop;
+import io.smallrye.reactive.converters.CompletedStages;
 import io.smallrye.reactive.converters.ReactiveTypeConverter;
 import rx.Emitter;
 import rx.Observable;
@@ -90,6 +91,14 @@ public class ObservableConverter implements ReactiveTypeConverter<Observable> {
 
     @Override
     public <X> Observable fromCompletionStage(CompletionStage<X> cs) {
+        CompletableFuture<X> completed = CompletedStages.completed(cs);
+        if (completed != null) {
+            Throwable failure = CompletedStages.failure(completed);
+            if (failure != null) {
+                return Observable.error(failure);
+            }
+            return Observable.just(completed.getNow(null));
+        }
         return Observable.create(emitter -> toStreamEvents(cs, emitter), Emitter.BackpressureMode.ERROR);
     }
 
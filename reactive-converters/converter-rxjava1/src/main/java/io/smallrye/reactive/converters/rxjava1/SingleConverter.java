@@ -8,6 +8,7 @@ import java.util.concurrent.CompletionStage;
 import org.reactivestreams.Publisher;
 
 import hu.akarnokd.rxjava.interop.RxJavaInterop;
+import io.smallrye.reactive.converters.CompletedStages;
 import io.smallrye.reactive.converters.ReactiveTypeConverter;
 import rx.Single;
 
@@ -60,6 +61,14 @@ public class SingleConverter implements ReactiveTypeConverter<Single> {
 
     @Override
     public <X> Single<X> fromCompletionStage(CompletionStage<X> cs) {
+        CompletableFuture<X> completed = CompletedStages.completed(cs);
+        if (completed != null) {
+            Throwable failure = CompletedStages.failure(completed);
+            if (failure != null) {
+                return Single.error(failure);
+            }
+            return Single.just(completed.getNow(null));
+        }
         CompletionStage<X> future = Objects.requireNonNull(cs);
         return Single
                 .create(emitter -> future.<X> whenComplete((X res, Throwable err) -> {
@@ -9,6 +9,7 @@ import org.reactivestreams.Publisher;
 
 import io.reactivex.Completable;
 import io.reactivex.Flowable;
+import io.smallrye.reactive.converters.CompletedStages;
 import io.smallrye.reactive.converters.ReactiveTypeConverter;
 
 /**
@@ -39,6 +40,12 @@ import io.smallrye.reactive.converters.ReactiveTypeConverter;
  * The {@link #toRSPublisher(Completable)} method returns a stream emitting an empty stream or a failed stream
  * depending of the {@link Completable}.
  *
+ *
+ * <strong>toCompletedStage</strong><br>
+ * Not provided, {@code null} is always returned. A {@link Completable} never emits a value, and the failure of the
+ * instances created with {@code Completable.error(failure)} is not exposed by RX Java. The conversions of
+ * {@link Completable} instances always go through {@link #toRSPublisher(Completable)}.
+ *
  */
 @SuppressWarnings("rawtypes")
 public class CompletableConverter implements ReactiveTypeConverter<Completable> {
@@ -56,6 +63,14 @@ public class CompletableConverter implements ReactiveTypeConverter<Completable>
 
     @Override
     public Completable fromCompletionStage(CompletionStage cs) {
+        CompletableFuture<?> completed = CompletedStages.completed(cs);
+        if (completed != null) {
+            Throwable failure = CompletedStages.failure(completed);
+            if (failure != null) {
+                return Completable.error(failure);
+            }
+            return Completable.complete();
+        }
         CompletionStage<?> future = Objects.requireNonNull(cs);
         return Completable
                 .create(emitter -> future.whenComplete((Object res, Throwable err) -> {
@@ -8,6 +8,7 @@ import org.reactivestreams.Publisher;
 
 import io.reactivex.BackpressureStrategy;
 import io.reactivex.Flowable;
+import io.smallrye.reactive.converters.CompletedStages;
 import io.smallrye.reactive.converters.ReactiveTypeConverter;
 
 /**
@@ -51,6 +52,11 @@ public class FlowableConverter implements ReactiveTypeConverter<Flowable> {
         return instance;
     }
 
+    @Override
+    public <X> CompletionStage<X> toCompletedStage(Flowable instance) {
+        return Scalars.toCompletedStage(instance);
+    }
+
     @Override
     public Flowable fromPublisher(Publisher publisher) {
         if (publisher instanceof Flowable) {
@@ -73,6 +79,15 @@ public class FlowableConverter implements ReactiveTypeConverter<Flowable> {
 
     @Override
     public <X> Flowable fromCompletionStage(CompletionStage<X> cs) {
+        CompletableFuture<X> completed = CompletedStages.completed(cs);
+        if (completed != null) {
+            Throwable failure = CompletedStages.failure(completed);
+            if (failure != null) {
+                return Flowable.error(failure);
+            }
+            X item = completed.getNow(null);
+            return item == null ? Flowable.empty() : Flowable.just(item);
+        }
         return Flowable.create(emitter -> cs.whenComplete((X res, Throwable err) -> {
             if (res != null) {
                 emitter.onNext(res);
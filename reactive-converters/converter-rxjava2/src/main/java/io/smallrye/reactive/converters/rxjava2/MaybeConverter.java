@@ -11,6 +11,7 @@ import org.reactivestreams.Publisher;
 import io.reactivex.Flowable;
 import io.reactivex.Maybe;
 import io.reactivex.MaybeEmitter;
+import io.smallrye.reactive.converters.CompletedStages;
 import io.smallrye.reactive.converters.ReactiveTypeConverter;
 
 /**
@@ -63,6 +64,18 @@ public class MaybeConverter implements ReactiveTypeConverter<Maybe> {
     @SuppressWarnings("unchecked")
     @Override
     public Maybe fromCompletionStage(CompletionStage cs) {
+        CompletableFuture<?> completed = CompletedStages.completed(cs);
+        if (completed != null) {
+            Throwable failure = CompletedStages.failure(completed);
+            if (failure != null) {
+                return Maybe.error(failure);
+            }
+            Object item = completed.getNow(null);
+            if (item instanceof Optional) {
+                item = ((Optional<?>) item).orElse(null);
+            }
+            return item == null ? Maybe.empty() : Maybe.just(item);
+        }
         CompletionStage<?> future = Objects.requireNonNull(cs);
         return Maybe
                 .create(emitter -> future.<Void> whenComplete((Object res, Throwable err) -> {
@@ -99,6 +112,11 @@ public class MaybeConverter implements ReactiveTypeConverter<Maybe> {
         return instance.toFlowable();
     }
 
+    @Override
+    public <X> CompletionStage<X> toCompletedStage(Maybe instance) {
+        return Scalars.toCompletedStage(instance);
+    }
+
     @Override
     public <X> Maybe fromPublisher(Publisher<X> publisher) {
         return Flowable.fromPublisher(publisher).firstElement();
@@ -9,6 +9,7 @@ import org.reactivestreams.Publisher;
 import io.reactivex.BackpressureStrategy;
 import io.reactivex.Emitter;
 import io.reactivex.Observable;
+import io.smallrye.reactive.converters.CompletedStages;
 import io.smallrye.reactive.converters.ReactiveTypeConverter;
 
 /**
@@ -70,6 +71,11 @@ public class ObservableConverter implements ReactiveTypeConverter<Observable> {
         return instance.toFlowable(BackpressureStrategy.MISSING);
     }
 
+    @Override
+    public <X> CompletionStage<X> toCompletedStage(Observable instance) {
+        return Scalars.toCompletedStage(instance);
+    }
+
     @Override
     public Observable fromPublisher(Publisher publisher) {
         return Observable.fromPublisher(publisher);
@@ -89,6 +95,15 @@ public class ObservableConverter implements ReactiveTypeConverter<Observable> {
 
     @Override
     public <X> Observable fromCompletionStage(CompletionStage<X> cs) {
+        CompletableFuture<X> completed = CompletedStages.completed(cs);
+        if (completed != null) {
+            Throwable failure = CompletedStages.failure(completed);
+            if (failure != null) {
+                return Observable.error(failure);
+            }
+            X item = completed.getNow(null);
+            return item == null ? Observable.empty() : Observable.just(item);
+        }
         return Observable.create(emitter -> toStreamEvents(cs, emitter));
     }
 
@@ -0,0 +1,31 @@
+package io.smallrye.reactive.converters.rxjava2;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import io.reactivex.internal.fuseable.ScalarCallable;
+
+/**
+ * Reads the item of the RX Java 2 instances created from a constant item, such as {@code Flowable.just(item)}.
+ * <p>
+ * Only the item of the instances implementing the fuseable scalar interface is read. The failure of the instances
+ * created with {@code error} is not exposed by RX Java, these instances go through the {@code Publisher}.
+ */
+final class Scalars {
+
+    private Scalars() {
+        // Avoid direct instantiation.
+    }
+
+    @SuppressWarnings("unchecked")
+    static <X> CompletionStage<X> toCompletedStage(Object instance) {
+        if (instance instanceof ScalarCallable) {
+            // Empty instances return null
+            Object item = ((ScalarCallable<?>) instance).call();
+            if (item != null) {
+                return CompletableFuture.completedFuture((X) item);
+            }
+        }
+        return null;
+    }
+}
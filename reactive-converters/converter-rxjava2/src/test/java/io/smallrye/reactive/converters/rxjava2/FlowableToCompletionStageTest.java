@@ -1,12 +1,17 @@
 package io.smallrye.reactive.converters.rxjava2;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
 import org.junit.Before;
+import org.junit.Test;
 
 import io.reactivex.BackpressureStrategy;
 import io.reactivex.Flowable;
+import io.reactivex.Maybe;
+import io.reactivex.Observable;
 import io.reactivex.schedulers.Schedulers;
 import io.smallrye.reactive.converters.ReactiveTypeConverter;
 import io.smallrye.reactive.converters.Registry;
@@ -106,4 +111,12 @@ public class FlowableToCompletionStageTest extends ToCompletionStageTCK<Flowable
     protected ReactiveTypeConverter<Flowable> converter() {
         return converter;
     }
+
+    @Test
+    public void testErrorInstancesGoThroughThePublisher() {
+        IllegalStateException failure = new IllegalStateException("boom");
+        assertThat(converter.<String> toCompletedStage(Flowable.error(failure))).isNull();
+        assertThat(Registry.lookup(Observable.class).get().<String> toCompletedStage(Observable.error(failure))).isNull();
+        assertThat(Registry.lookup(Maybe.class).get().<String> toCompletedStage(Maybe.error(failure))).isNull();
+    }
 }
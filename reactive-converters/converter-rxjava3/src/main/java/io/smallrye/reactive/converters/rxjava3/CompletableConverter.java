@@ -1,6 +1,7 @@
 package io.smallrye.reactive.converters.rxjava3;
 
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 
@@ -8,6 +9,7 @@ import org.reactivestreams.Publisher;
 
 import io.reactivex.rxjava3.core.Completable;
 import io.reactivex.rxjava3.core.Flowable;
+import io.smallrye.reactive.converters.CompletedStages;
 import io.smallrye.reactive.converters.ReactiveTypeConverter;
 
 /**
@@ -38,6 +40,12 @@ import io.smallrye.reactive.converters.ReactiveTypeConverter;
  * The {@link #toRSPublisher(Completable)} method returns a stream emitting an empty stream or a failed stream
  * depending of the {@link Completable}.
  *
+ *
+ * <strong>toCompletedStage</strong><br>
+ * Not provided, {@code null} is always returned. A {@link Completable} never emits a value, and the failure of the
+ * instances created with {@code Completable.error(failure)} is not exposed by RX Java. The conversions of
+ * {@link Completable} instances always go through {@link #toRSPublisher(Completable)}.
+ *
  */
 @SuppressWarnings("rawtypes")
 public class CompletableConverter implements ReactiveTypeConverter<Completable> {
@@ -50,6 +58,14 @@ public class CompletableConverter implements ReactiveTypeConverter<Completable>
 
     @Override
     public Completable fromCompletionStage(CompletionStage cs) {
+        CompletableFuture<?> completed = CompletedStages.completed(cs);
+        if (completed != null) {
+            Throwable failure = CompletedStages.failure(completed);
+            if (failure != null) {
+                return Completable.error(failure);
+            }
+            return Completable.complete();
+        }
         return Completable.fromCompletionStage(cs)
                 .onErrorResumeNext(t -> {
                     if (t instanceof CompletionException) {
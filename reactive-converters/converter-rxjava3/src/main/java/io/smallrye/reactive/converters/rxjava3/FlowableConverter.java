@@ -1,5 +1,6 @@
 package io.smallrye.reactive.converters.rxjava3;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 
@@ -8,6 +9,7 @@ import org.reactivestreams.Publisher;
 import io.reactivex.rxjava3.core.BackpressureStrategy;
 import io.reactivex.rxjava3.core.Flowable;
 import io.reactivex.rxjava3.core.FlowableEmitter;
+import io.smallrye.reactive.converters.CompletedStages;
 import io.smallrye.reactive.converters.ReactiveTypeConverter;
 
 /**
@@ -52,6 +54,11 @@ public class FlowableConverter implements ReactiveTypeConverter<Flowable> {
         return instance;
     }
 
+    @Override
+    public <X> CompletionStage<X> toCompletedStage(Flowable instance) {
+        return Scalars.toCompletedStage(instance);
+    }
+
     @Override
     public Flowable fromPublisher(Publisher publisher) {
         return Flowable.fromPublisher(publisher);
@@ -65,6 +72,15 @@ public class FlowableConverter implements ReactiveTypeConverter<Flowable> {
 
     @Override
     public <X> Flowable fromCompletionStage(CompletionStage<X> cs) {
+        CompletableFuture<X> completed = CompletedStages.completed(cs);
+        if (completed != null) {
+            Throwable failure = CompletedStages.failure(completed);
+            if (failure != null) {
+                return Flowable.error(failure);
+            }
+            X item = completed.getNow(null);
+            return item == null ? Flowable.empty() : Flowable.just(item);
+        }
         return Flowable.create(emitter -> toStreamEvents(cs, emitter), BackpressureStrategy.BUFFER);
     }
 
@@ -2,6 +2,7 @@ package io.smallrye.reactive.converters.rxjava3;
 
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 
@@ -10,6 +11,7 @@ import org.reactivestreams.Publisher;
 import io.reactivex.rxjava3.core.Flowable;
 import io.reactivex.rxjava3.core.Maybe;
 import io.reactivex.rxjava3.core.MaybeEmitter;
+import io.smallrye.reactive.converters.CompletedStages;
 import io.smallrye.reactive.converters.ReactiveTypeConverter;
 
 /**
@@ -53,6 +55,18 @@ public class MaybeConverter implements ReactiveTypeConverter<Maybe> {
     @SuppressWarnings("unchecked")
     @Override
     public Maybe fromCompletionStage(CompletionStage cs) {
+        CompletableFuture<?> completed = CompletedStages.completed(cs);
+        if (completed != null) {
+            Throwable failure = CompletedStages.failure(completed);
+            if (failure != null) {
+                return Maybe.error(failure);
+            }
+            Object item = completed.getNow(null);
+            if (item instanceof Optional) {
+                item = ((Optional<?>) item).orElse(null);
+            }
+            return item == null ? Maybe.empty() : Maybe.just(item);
+        }
         CompletionStage<?> future = Objects.requireNonNull(cs);
         return Maybe
                 .create(emitter -> future.<Void> whenComplete((Object res, Throwable err) -> {
@@ -89,6 +103,11 @@ public class MaybeConverter implements ReactiveTypeConverter<Maybe> {
         return instance.toFlowable();
     }
 
+    @Override
+    public <X> CompletionStage<X> toCompletedStage(Maybe instance) {
+        return Scalars.toCompletedStage(instance);
+    }
+
     @Override
     public <X> Maybe fromPublisher(Publisher<X> publisher) {
         return Flowable.fromPublisher(publisher).firstElement();
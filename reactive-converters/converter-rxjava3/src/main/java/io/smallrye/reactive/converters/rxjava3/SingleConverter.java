@@ -1,6 +1,7 @@
 package io.smallrye.reactive.converters.rxjava3;
 
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 
@@ -8,6 +9,7 @@ import org.reactivestreams.Publisher;
 
 import io.reactivex.rxjava3.core.Flowable;
 import io.reactivex.rxjava3.core.Single;
+import io.smallrye.reactive.converters.CompletedStages;
 import io.smallrye.reactive.converters.ReactiveTypeConverter;
 
 /**
@@ -34,6 +36,12 @@ import io.smallrye.reactive.converters.ReactiveTypeConverter;
  * The {@link #toRSPublisher(Single)} method returns a stream emitting a single value followed by the completion signal.
  * If the passed {@link Single} fails, the returned stream also fails.
  *
+ *
+ * <strong>toCompletedStage</strong><br>
+ * Not provided, {@code null} is always returned. The instances created with {@code Single.just(item)} do not implement
+ * the RX Java fuseable scalar interface, so their item cannot be read without subscribing or accessing RX Java
+ * internals. The conversions of {@link Single} instances always go through {@link #toRSPublisher(Single)}.
+ *
  */
 @SuppressWarnings("rawtypes")
 public class SingleConverter implements ReactiveTypeConverter<Single> {
@@ -52,6 +60,16 @@ public class SingleConverter implements ReactiveTypeConverter<Single> {
 
     @Override
     public <X> Single<X> fromCompletionStage(CompletionStage<X> cs) {
+        CompletableFuture<X> completed = CompletedStages.completed(cs);
+        if (completed != null) {
+            Throwable failure = CompletedStages.failure(completed);
+            if (failure != null) {
+                return Single.error(failure);
+            }
+            X item = completed.getNow(null);
+            return item == null ? Single.error(new NullPointerException("The completion stage has been completed with null"))
+                    : Single.just(item);
+        }
         CompletionStage<X> future = Objects.requireNonNull(cs);
         return Single
                 .create(emitter -> future.whenComplete((X res, Throwable err) -> {
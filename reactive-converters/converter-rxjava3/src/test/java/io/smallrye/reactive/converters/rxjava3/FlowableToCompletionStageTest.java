@@ -1,12 +1,17 @@
 package io.smallrye.reactive.converters.rxjava3;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
 import org.junit.Before;
+import org.junit.Test;
 
 import io.reactivex.rxjava3.core.BackpressureStrategy;
 import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.Maybe;
+import io.reactivex.rxjava3.core.Observable;
 import io.reactivex.rxjava3.schedulers.Schedulers;
 import io.smallrye.reactive.converters.ReactiveTypeConverter;
 import io.smallrye.reactive.converters.Registry;
@@ -107,4 +112,12 @@ public class FlowableToCompletionStageTest extends ToCompletionStageTCK<Flowable
     protected ReactiveTypeConverter<Flowable> converter() {
         return converter;
     }
+
+    @Test
+    public void testErrorInstancesGoThroughThePublisher() {
+        IllegalStateException failure = new IllegalStateException("boom");
+        assertThat(converter.<String> toCompletedStage(Flowable.error(failure))).isNull();
+        assertThat(Registry.lookup(Observable.class).get().<String> toCompletedStage(Observable.error(failure))).isNull();
+        assertThat(Registry.lookup(Maybe.class).get().<String> toCompletedStage(Maybe.error(failure))).isNull();
+    }
 }
@@ -0,0 +1,52 @@
+package io.smallrye.mutiny.vertx.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.smallrye.mutiny.vertx.AsyncResultUni;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+
+/**
+ * Measures the cost of adapting a callback-based asynchronous method to a {@code Uni}, as done by the generated
+ * methods.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AsyncResultUniBenchmark {
+
+    private final AsyncResult<String> success = Future.succeededFuture("item");
+    private final AsyncResult<String> failure = Future.failedFuture(new Exception("boom"));
+
+    @Benchmark
+    public void success(Blackhole blackhole) {
+        AsyncResultUni.<String> toUni(handler -> handler.handle(success))
+                .subscribe().with(blackhole::consume, blackhole::consume);
+    }
+
+    @Benchmark
+    public void failure(Blackhole blackhole) {
+        AsyncResultUni.<String> toUni(handler -> handler.handle(failure))
+                .subscribe().with(blackhole::consume, blackhole::consume);
+    }
+
+    @Benchmark
+    public void successWithConversion(Blackhole blackhole) {
+        AsyncResultUni.<Integer> toUni(handler -> handler.handle(success.map(String::length)))
+                .subscribe().with(blackhole::consume, blackhole::consume);
+    }
+}
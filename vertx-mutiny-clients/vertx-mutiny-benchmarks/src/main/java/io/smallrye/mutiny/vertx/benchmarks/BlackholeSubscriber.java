@@ -0,0 +1,56 @@
+package io.smallrye.mutiny.vertx.benchmarks;
+
+import org.openjdk.jmh.infra.Blackhole;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * A {@link Subscriber} consuming the received items with a {@link Blackhole}, and requesting them by batches of
+ * {@code batchSize} items.
+ *
+ * @param <T> the type of item
+ */
+public class BlackholeSubscriber<T> implements Subscriber<T> {
+
+    private final Blackhole blackhole;
+    private final long batchSize;
+
+    private Subscription subscription;
+    private long remaining;
+    private boolean done;
+
+    public BlackholeSubscriber(Blackhole blackhole, long batchSize) {
+        this.blackhole = blackhole;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void onSubscribe(Subscription s) {
+        subscription = s;
+        remaining = batchSize;
+        s.request(batchSize);
+    }
+
+    @Override
+    public void onNext(T item) {
+        blackhole.consume(item);
+        if (batchSize != Long.MAX_VALUE && --remaining == 0) {
+            remaining = batchSize;
+            subscription.request(batchSize);
+        }
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        throw new IllegalStateException(t);
+    }
+
+    @Override
+    public void onComplete() {
+        done = true;
+    }
+
+    public boolean isDone() {
+        return done;
+    }
+}
@@ -0,0 +1,141 @@
+package io.smallrye.mutiny.vertx.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of loading the generated Mutiny classes, as done on application startup.
+ * <p>
+ * Each invocation loads and initializes a set of large generated classes in a new class loader. The
+ * {@code loadedBytes} and {@code metaspaceBytes} counters report the size of the loaded class files and the metaspace
+ * growth. Compare the results with {@code vertx-mutiny-core} built with {@code -Dgen.profile=full} and
+ * {@code -Dgen.profile=lean}.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+@Fork(3)
+@State(Scope.Thread)
+public class GeneratedClassLoadingBenchmark {
+
+    private static final String GENERATED_PACKAGE = "io.vertx.mutiny.";
+
+    private static final String[] CLASSES = {
+            "io.vertx.mutiny.core.Vertx",
+            "io.vertx.mutiny.core.eventbus.EventBus",
+            "io.vertx.mutiny.core.file.FileSystem",
+            "io.vertx.mutiny.core.file.AsyncFile",
+            "io.vertx.mutiny.core.http.HttpServer",
+            "io.vertx.mutiny.core.http.HttpServerRequest",
+            "io.vertx.mutiny.core.http.HttpServerResponse",
+            "io.vertx.mutiny.core.http.HttpClient",
+            "io.vertx.mutiny.core.http.HttpClientRequest",
+            "io.vertx.mutiny.core.net.NetSocket",
+    };
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Counters {
+
+        public long loadedBytes;
+        public long metaspaceBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            loadedBytes = 0;
+            metaspaceBytes = 0;
+        }
+    }
+
+    @Benchmark
+    public Object load(Counters counters) throws ClassNotFoundException {
+        MemoryPoolMXBean metaspace = metaspace();
+        long before = metaspace == null ? 0L : metaspace.getUsage().getUsed();
+        GeneratedClassLoader loader = new GeneratedClassLoader(getClass().getClassLoader());
+        Object last = null;
+        for (String name : CLASSES) {
+            last = Class.forName(name, true, loader);
+        }
+        if (metaspace != null) {
+            counters.metaspaceBytes += metaspace.getUsage().getUsed() - before;
+        }
+        counters.loadedBytes += loader.loadedBytes;
+        return last;
+    }
+
+    private static MemoryPoolMXBean metaspace() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if ("Metaspace".equals(pool.getName())) {
+                return pool;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Loads the generated classes itself, and delegates the others to the parent.
+     */
+    private static class GeneratedClassLoader extends ClassLoader {
+
+        private long loadedBytes;
+
+        GeneratedClassLoader(ClassLoader parent) {
+            super(parent);
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!name.startsWith(GENERATED_PACKAGE)) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> clazz = findLoadedClass(name);
+                if (clazz == null) {
+                    byte[] bytes = read(name);
+                    loadedBytes += bytes.length;
+                    clazz = defineClass(name, bytes, 0, bytes.length);
+                }
+                if (resolve) {
+                    resolveClass(clazz);
+                }
+                return clazz;
+            }
+        }
+
+        private byte[] read(String name) throws ClassNotFoundException {
+            String resource = name.replace('.', '/') + ".class";
+            try (InputStream in = getParent().getResourceAsStream(resource)) {
+                if (in == null) {
+                    throw new ClassNotFoundException(name);
+                }
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                byte[] buffer = new byte[8192];
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    out.write(buffer, 0, read);
+                }
+                return out.toByteArray();
+            } catch (IOException e) {
+                throw new ClassNotFoundException(name, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package io.smallrye.mutiny.vertx.benchmarks;
+
+import io.vertx.core.Handler;
+import io.vertx.core.streams.ReadStream;
+
+/**
+ * A single-threaded {@link ReadStream} emitting the same item {@code size} times, synchronously, according to the
+ * demand.
+ *
+ * @param <T> the type of item
+ */
+public class InMemoryReadStream<T> implements ReadStream<T> {
+
+    private final T item;
+    private final int size;
+
+    private int emitted;
+    private long demand = Long.MAX_VALUE;
+    private boolean emitting;
+    private Handler<T> handler;
+    private Handler<Void> endHandler;
+
+    public InMemoryReadStream(T item, int size) {
+        this.item = item;
+        this.size = size;
+    }
+
+    @Override
+    public ReadStream<T> exceptionHandler(Handler<Throwable> handler) {
+        return this;
+    }
+
+    @Override
+    public ReadStream<T> handler(Handler<T> handler) {
+        this.handler = handler;
+        emit();
+        return this;
+    }
+
+    @Override
+    public ReadStream<T> pause() {
+        demand = 0L;
+        return this;
+    }
+
+    @Override
+    public ReadStream<T> resume() {
+        demand = Long.MAX_VALUE;
+        emit();
+        return this;
+    }
+
+    @Override
+    public ReadStream<T> fetch(long amount) {
+        demand += amount;
+        if (demand < 0L) {
+            demand = Long.MAX_VALUE;
+        }
+        emit();
+        return this;
+    }
+
+    @Override
+    public ReadStream<T> endHandler(Handler<Void> handler) {
+        this.endHandler = handler;
+        return this;
+    }
+
+    private void emit() {
+        if (emitting) {
+            return;
+        }
+        emitting = true;
+        try {
+            while (handler != null && demand > 0L && emitted < size) {
+                if (demand != Long.MAX_VALUE) {
+                    demand--;
+                }
+                emitted++;
+                handler.handle(item);
+            }
+            if (emitted == size && endHandler != null) {
+                Handler<Void> h = endHandler;
+                endHandler = null;
+                h.handle(null);
+            }
+        } finally {
+            emitting = false;
+        }
+    }
+}
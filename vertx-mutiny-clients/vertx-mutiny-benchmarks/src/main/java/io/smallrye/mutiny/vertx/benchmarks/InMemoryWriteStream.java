@@ -0,0 +1,95 @@
+package io.smallrye.mutiny.vertx.benchmarks;
+
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.streams.WriteStream;
+
+/**
+ * A single-threaded {@link WriteStream} consuming the written items with a {@link Blackhole}.
+ * <p>
+ * The write queue is reported full every {@code maxQueueSize} writes, until {@link #drain()} is called.
+ *
+ * @param <T> the type of item
+ */
+public class InMemoryWriteStream<T> implements WriteStream<T> {
+
+    private final Blackhole blackhole;
+    private int maxQueueSize;
+
+    private int queued;
+    private boolean ended;
+    private Handler<Void> drainHandler;
+
+    public InMemoryWriteStream(Blackhole blackhole, int maxQueueSize) {
+        this.blackhole = blackhole;
+        this.maxQueueSize = maxQueueSize;
+    }
+
+    @Override
+    public WriteStream<T> exceptionHandler(Handler<Throwable> handler) {
+        return this;
+    }
+
+    @Override
+    public WriteStream<T> write(T data) {
+        queued++;
+        blackhole.consume(data);
+        return this;
+    }
+
+    @Override
+    public WriteStream<T> write(T data, Handler<AsyncResult<Void>> handler) {
+        write(data);
+        if (handler != null) {
+            handler.handle(Future.succeededFuture());
+        }
+        return this;
+    }
+
+    @Override
+    public void end() {
+        ended = true;
+    }
+
+    @Override
+    public void end(Handler<AsyncResult<Void>> handler) {
+        end();
+        if (handler != null) {
+            handler.handle(Future.succeededFuture());
+        }
+    }
+
+    @Override
+    public WriteStream<T> setWriteQueueMaxSize(int maxSize) {
+        this.maxQueueSize = maxSize;
+        return this;
+    }
+
+    @Override
+    public boolean writeQueueFull() {
+        return queued >= maxQueueSize;
+    }
+
+    @Override
+    public WriteStream<T> drainHandler(Handler<Void> handler) {
+        this.drainHandler = handler;
+        return this;
+    }
+
+    /**
+     * Empties the write queue and calls the drain handler.
+     */
+    public void drain() {
+        queued = 0;
+        if (drainHandler != null) {
+            drainHandler.handle(null);
+        }
+    }
+
+    public boolean isEnded() {
+        return ended;
+    }
+}
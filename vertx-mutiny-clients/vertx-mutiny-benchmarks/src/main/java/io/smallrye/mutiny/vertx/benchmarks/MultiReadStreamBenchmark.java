@@ -0,0 +1,53 @@
+package io.smallrye.mutiny.vertx.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.smallrye.mutiny.vertx.MultiHelper;
+
+/**
+ * Measures the cost per item of consuming a Vert.x {@code ReadStream} as a {@code Multi}.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MultiReadStreamBenchmark {
+
+    private static final int ITEMS = 10_000;
+
+    @Param({ "16", "1024", "9223372036854775807" })
+    public long request;
+
+    @Benchmark
+    @OperationsPerInvocation(ITEMS)
+    public boolean toMulti(Blackhole blackhole) {
+        InMemoryReadStream<String> stream = new InMemoryReadStream<>("item", ITEMS);
+        BlackholeSubscriber<String> subscriber = new BlackholeSubscriber<>(blackhole, request);
+        MultiHelper.toMulti(stream).subscribe(subscriber);
+        return subscriber.isDone();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEMS)
+    public boolean toMultiWithMapping(Blackhole blackhole) {
+        InMemoryReadStream<String> stream = new InMemoryReadStream<>("item", ITEMS);
+        BlackholeSubscriber<Integer> subscriber = new BlackholeSubscriber<>(blackhole, request);
+        MultiHelper.toMulti(stream, String::length).subscribe(subscriber);
+        return subscriber.isDone();
+    }
+}
@@ -0,0 +1,54 @@
+package io.smallrye.mutiny.vertx.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.mutiny.vertx.TypeArg;
+import io.vertx.mutiny.core.MultiMap;
+import io.vertx.mutiny.core.Promise;
+import io.vertx.mutiny.core.buffer.Buffer;
+
+/**
+ * Measures the cost of wrapping Vert.x objects into the generated Mutiny types.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class NewInstanceBenchmark {
+
+    private final io.vertx.core.buffer.Buffer buffer = io.vertx.core.buffer.Buffer.buffer("item");
+    private final io.vertx.core.MultiMap multiMap = io.vertx.core.MultiMap.caseInsensitiveMultiMap();
+    private final io.vertx.core.Promise<String> promise = io.vertx.core.Promise.promise();
+
+    @Benchmark
+    public Buffer buffer() {
+        return Buffer.newInstance(buffer);
+    }
+
+    @Benchmark
+    public MultiMap multiMap() {
+        return MultiMap.newInstance(multiMap);
+    }
+
+    @Benchmark
+    public Promise<String> genericWithUnknownTypeArg() {
+        return Promise.newInstance(promise, TypeArg.unknown());
+    }
+
+    @Benchmark
+    public Promise<Buffer> genericWithTypeArg() {
+        return Promise.newInstance(promise, TypeArg.of(Buffer.class));
+    }
+}
@@ -0,0 +1,64 @@
+package io.smallrye.mutiny.vertx.benchmarks;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.vertx.MultiHelper;
+import io.vertx.core.streams.ReadStream;
+
+/**
+ * Measures the cost per item of consuming a {@code Multi} as a Vert.x {@code ReadStream}.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ReadStreamSubscriberBenchmark {
+
+    private static final int ITEMS = 10_000;
+
+    @Param({ "16", "256" })
+    public int prefetch;
+
+    private Multi<String> source;
+
+    @Setup
+    public void setup() {
+        source = Multi.createFrom().iterable(Collections.nCopies(ITEMS, "item"));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEMS)
+    public void flowing(Blackhole blackhole) {
+        ReadStream<String> stream = MultiHelper.toReadStream(source, prefetch);
+        stream.endHandler(blackhole::consume);
+        stream.handler(blackhole::consume);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEMS)
+    public void fetch(Blackhole blackhole) {
+        ReadStream<String> stream = MultiHelper.toReadStream(source, prefetch);
+        stream.pause();
+        stream.endHandler(blackhole::consume);
+        stream.handler(blackhole::consume);
+        stream.fetch(ITEMS);
+    }
+}
@@ -0,0 +1,53 @@
+package io.smallrye.mutiny.vertx.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.mutiny.vertx.TypeArg;
+import io.vertx.mutiny.core.buffer.Buffer;
+
+/**
+ * Measures the {@link TypeArg} lookup, wrapping and unwrapping costs, as used by the generated code for generic
+ * types.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TypeArgBenchmark {
+
+    private final TypeArg<Buffer> typeArg = TypeArg.of(Buffer.class);
+    private final io.vertx.core.buffer.Buffer delegate = io.vertx.core.buffer.Buffer.buffer("item");
+    private final Buffer wrapped = Buffer.newInstance(delegate);
+
+    @Benchmark
+    public TypeArg<Buffer> lookup() {
+        return TypeArg.of(Buffer.class);
+    }
+
+    @Benchmark
+    public TypeArg<String> lookupUnknown() {
+        return TypeArg.of(String.class);
+    }
+
+    @Benchmark
+    public Buffer wrap() {
+        return typeArg.wrap(delegate);
+    }
+
+    @Benchmark
+    public io.vertx.core.buffer.Buffer unwrap() {
+        return typeArg.unwrap(wrapped);
+    }
+}
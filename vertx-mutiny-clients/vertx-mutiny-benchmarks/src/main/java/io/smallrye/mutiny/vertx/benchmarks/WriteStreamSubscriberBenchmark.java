@@ -0,0 +1,58 @@
+package io.smallrye.mutiny.vertx.benchmarks;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.vertx.MutinyHelper;
+
+/**
+ * Measures the cost per item of writing a {@code Multi} into a Vert.x {@code WriteStream}.
+ * <p>
+ * The stream reports its write queue full every {@code writeQueueMaxSize} items, and is drained synchronously.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class WriteStreamSubscriberBenchmark {
+
+    private static final int ITEMS = 10_000;
+
+    @Param({ "16", "1024" })
+    public int writeQueueMaxSize;
+
+    private Multi<String> source;
+
+    @Setup
+    public void setup() {
+        source = Multi.createFrom().iterable(Collections.nCopies(ITEMS, "item"));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEMS)
+    public boolean toSubscriber(Blackhole blackhole) {
+        InMemoryWriteStream<String> stream = new InMemoryWriteStream<>(blackhole, writeQueueMaxSize);
+        source.subscribe(MutinyHelper.toSubscriber(stream));
+        while (!stream.isEnded()) {
+            stream.drain();
+        }
+        return stream.isEnded();
+    }
+}
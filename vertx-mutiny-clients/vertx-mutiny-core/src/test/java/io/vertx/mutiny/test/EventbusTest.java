@@ -9,6 +9,7 @@ import org.junit.Test;
 import io.vertx.mutiny.core.Vertx;
 import io.vertx.mutiny.core.eventbus.EventBus;
 import io.vertx.mutiny.core.eventbus.Message;
+import io.vertx.mutiny.core.eventbus.MessageConsumer;
 import io.vertx.test.core.VertxTestBase;
 
 public class EventbusTest extends VertxTestBase {
@@ -72,4 +73,39 @@ public class EventbusTest extends VertxTestBase {
 
     }
 
+    @Test
+    public void testConsumingAsRawMulti() {
+        Vertx vertx = Vertx.vertx();
+        EventBus bus = vertx.eventBus();
+        List<Integer> items = new ArrayList<>();
+        bus.<Integer> consumer("address").toRawMulti()
+                .onItem().transform(io.vertx.core.eventbus.Message::body)
+                .subscribe().with(items::add);
+
+        bus.sendAndForget("address", 1);
+        bus.sendAndForget("address", 2);
+
+        assertWaitUntil(() -> items.size() == 2);
+    }
+
+    @Test
+    public void testRawMultiIsCachedAndExcludesMulti() {
+        Vertx vertx = Vertx.vertx();
+        MessageConsumer<Integer> consumer = vertx.eventBus().consumer("address");
+        assertSame(consumer.toRawMulti(), consumer.toRawMulti());
+        try {
+            consumer.toMulti();
+            fail();
+        } catch (IllegalStateException expected) {
+        }
+
+        MessageConsumer<Integer> other = vertx.eventBus().consumer("other");
+        assertSame(other.toMulti(), other.toMulti());
+        try {
+            other.toRawMulti();
+            fail();
+        } catch (IllegalStateException expected) {
+        }
+    }
+
 }
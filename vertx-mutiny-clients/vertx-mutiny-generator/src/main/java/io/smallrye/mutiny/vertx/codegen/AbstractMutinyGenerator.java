@@ -31,6 +31,7 @@ public abstract class AbstractMutinyGenerator extends Generator<ClassModel> {
     private List<MethodInfo> methods = new ArrayList<>();
     private List<MethodInfo> forget = new ArrayList<>();
     private Map<MethodInfo, Map<TypeInfo, String>> methodTypeArgMap = new HashMap<>();
+    protected GenerationProfile profile = GenerationProfile.FULL;
 
     public AbstractMutinyGenerator() {
         this.kinds = Collections.singleton("class");
@@ -121,7 +122,9 @@ public abstract class AbstractMutinyGenerator extends Generator<ClassModel> {
         // This list filters out method that conflict during the generation
         methods.forEach(method -> genMethods(model, method, cacheDecls, writer));
         // Generate AndForget method
-        forget.forEach(method -> genForgetMethods(model, method, cacheDecls, writer));
+        if (profile.generatesVariants()) {
+            forget.forEach(method -> genForgetMethods(model, method, cacheDecls, writer));
+        }
 
         new ConstantCodeWriter(methodTypeArgMap).apply(model, writer);
 
@@ -271,7 +274,8 @@ public abstract class AbstractMutinyGenerator extends Generator<ClassModel> {
         if (CodeGenHelper.methodKind(method) == MethodKind.FUTURE) {
             genSimpleMethod(false, model, true, "__" + method.getName(), method, cacheDecls, writer);
             genUniMethod(false, model, method, writer);
-            if (model.getMethods().stream().noneMatch(mi -> mi.getName().equals(method.getName() + "AndAwait"))) {
+            if (profile.generatesVariants()
+                    && model.getMethods().stream().noneMatch(mi -> mi.getName().equals(method.getName() + "AndAwait"))) {
                 genBlockingMethod(false, model, method, writer);
             }
         } else if (CodeGenHelper.methodKind(method) == MethodKind.HANDLER) {
@@ -346,7 +350,8 @@ public abstract class AbstractMutinyGenerator extends Generator<ClassModel> {
             PrintWriter writer) {
         if (CodeGenHelper.methodKind(method) == MethodKind.FUTURE) {
             genUniMethod(true, model, method, writer);
-            if (!model.getMethods().stream().anyMatch(mi -> mi.getName().equals(method.getName() + "AndAwait"))) {
+            if (profile.generatesVariants()
+                    && !model.getMethods().stream().anyMatch(mi -> mi.getName().equals(method.getName() + "AndAwait"))) {
                 genBlockingMethod(true, model, method, writer);
             }
         } else if (CodeGenHelper.methodKind(method) == MethodKind.HANDLER) {
@@ -521,6 +526,35 @@ public abstract class AbstractMutinyGenerator extends Generator<ClassModel> {
     }
 
     private String genInvokeDelegate(ClassModel model, MethodInfo method) {
+        return genInvokeDelegate(model, method, null);
+    }
+
+    /**
+     * Generates the invocation of the delegate method of a future method, passing {@code handler} as-is as the last
+     * parameter instead of wrapping it into a converting handler.
+     *
+     * @param model the class model
+     * @param method the future method
+     * @param handler the expression passed as handler
+     * @return the invocation
+     */
+    protected String genInvokeDelegateWithHandler(ClassModel model, MethodInfo method, String handler) {
+        return genInvokeDelegate(model, method, handler);
+    }
+
+    /**
+     * Generates the conversion of the {@code expr} result of a future method.
+     *
+     * @param method the future method
+     * @param type the type of result
+     * @param expr the expression to convert
+     * @return the conversion
+     */
+    protected String genConvResult(MethodInfo method, TypeInfo type, String expr) {
+        return CodeGenHelper.genConvReturn(methodTypeArgMap, type, method, expr);
+    }
+
+    private String genInvokeDelegate(ClassModel model, MethodInfo method, String handler) {
         StringBuilder ret;
         if (method.isStaticMethod()) {
             ret = new StringBuilder(Helper.getNonGenericType(model.getIfaceFQCN()));
@@ -534,7 +568,9 @@ public abstract class AbstractMutinyGenerator extends Generator<ClassModel> {
                 ret.append(", ");
             }
             TypeInfo type = param.getType();
-            if (type.isParameterized() && (type.getRaw().getName().equals("org.reactivestreams.Publisher"))) {
+            if (handler != null && index == method.getParams().size() - 1) {
+                ret.append(handler);
+            } else if (type.isParameterized() && (type.getRaw().getName().equals("org.reactivestreams.Publisher"))) {
                 String adapterFunction;
                 ParameterizedTypeInfo parameterizedType = (ParameterizedTypeInfo) type;
                 if (parameterizedType.getArg(0).isVariable()) {
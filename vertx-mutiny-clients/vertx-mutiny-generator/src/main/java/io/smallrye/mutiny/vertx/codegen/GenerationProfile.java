@@ -0,0 +1,44 @@
+package io.smallrye.mutiny.vertx.codegen;
+
+import java.util.Locale;
+
+/**
+ * The set of methods generated for each Vert.x method.
+ */
+public enum GenerationProfile {
+
+    /**
+     * Generates the {@code Uni} and {@code Multi} methods, and their blocking ({@code AndAwait}), fire-and-forget
+     * ({@code AndForget}) and {@code Publisher} variants.
+     */
+    FULL,
+
+    /**
+     * Only generates the non-blocking {@code Uni} and {@code Multi} methods. The generated classes are smaller and load
+     * faster, but the code using the other variants does not compile.
+     */
+    LEAN;
+
+    /**
+     * @param value the value of the processor option, {@code null} for the default profile
+     * @return the matching profile
+     * @throws IllegalArgumentException if the value does not match any profile
+     */
+    public static GenerationProfile fromOption(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return FULL;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown generation profile `" + value + "`, expected `full` or `lean`");
+        }
+    }
+
+    /**
+     * @return whether the {@code AndAwait}, {@code AndForget} and {@code Publisher} variants are generated
+     */
+    public boolean generatesVariants() {
+        return this == FULL;
+    }
+}
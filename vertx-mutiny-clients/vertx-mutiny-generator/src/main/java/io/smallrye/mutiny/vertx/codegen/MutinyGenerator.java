@@ -4,11 +4,13 @@ import java.io.PrintWriter;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.vertx.AsyncResultUni;
+import io.smallrye.mutiny.vertx.LatencyRecorders;
 import io.smallrye.mutiny.vertx.codegen.lang.CodeGenHelper;
 import io.vertx.codegen.ClassModel;
 import io.vertx.codegen.MethodInfo;
@@ -19,14 +21,36 @@ import io.vertx.codegen.type.TypeInfo;
 
 public class MutinyGenerator extends AbstractMutinyGenerator {
 
+    /**
+     * Annotation processor option recording the latency of the generated {@link Uni} methods with the
+     * {@link io.smallrye.mutiny.vertx.LatencyRecorder} returned by {@link LatencyRecorders#get()}.
+     */
+    public static final String TIMING_OPTION = "codegen.mutiny.timing";
+
+    /**
+     * Annotation processor option selecting the {@link GenerationProfile}, {@code full} or {@code lean}.
+     */
+    public static final String PROFILE_OPTION = "codegen.mutiny.profile";
+
+    private final boolean timing;
+
     MutinyGenerator() {
+        this(Collections.emptyMap());
+    }
+
+    MutinyGenerator(Map<String, String> options) {
         this.kinds = Collections.singleton("class");
         this.name = "mutiny";
+        this.timing = Boolean.parseBoolean(options.get(TIMING_OPTION));
+        this.profile = GenerationProfile.fromOption(options.get(PROFILE_OPTION));
     }
 
     @Override
     protected void genMethods(ClassModel model, MethodInfo method, List<String> cacheDecls, PrintWriter writer) {
         genMethod(model, method, cacheDecls, writer);
+        if (!profile.generatesVariants()) {
+            return;
+        }
         MethodInfo publisherOverload = genOverloadedMethod(method, org.reactivestreams.Publisher.class);
         if (publisherOverload != null) {
             genMethod(model, publisherOverload, cacheDecls, writer);
@@ -86,9 +110,31 @@ public class MutinyGenerator extends AbstractMutinyGenerator {
             return;
         }
         writer.println(" { ");
+        ParamInfo handlerParam = method.getParam(method.getParams().size() - 1);
+        TypeInfo resultType = ((ParameterizedTypeInfo) ((ParameterizedTypeInfo) handlerParam.getType()).getArg(0))
+                .getArg(0);
+        if (!CodeGenHelper.isSameType(resultType, method)) {
+            // The result is converted by the uni itself, avoiding a converting handler
+            writer.print("    return ");
+            writer.print(AsyncResultUni.class.getName());
+            writer.print(".<");
+            writer.print(resultType.getName());
+            writer.print(", ");
+            writer.print(CodeGenHelper.genTypeName(resultType));
+            writer.println(">to" + methodSimpleName + "(" + genSubscriptionConsumerStart(model, method));
+            writer.print("      ");
+            writer.print(genInvokeDelegateWithHandler(model, method, "handler"));
+            writer.println(";");
+            writer.print("    }" + genSubscriptionConsumerEnd() + ", ar -> ");
+            writer.print(genConvResult(method, resultType, "ar"));
+            writer.println(");");
+            writer.println("  }");
+            writer.println();
+            return;
+        }
         writer.print("    return ");
         writer.print(adapterType);
-        writer.println("(handler -> {");
+        writer.println("(" + genSubscriptionConsumerStart(model, method));
         writer.print("      __");
         writer.print(method.getName());
         writer.print("(");
@@ -98,11 +144,23 @@ public class MutinyGenerator extends AbstractMutinyGenerator {
             writer.print(", ");
         }
         writer.println("handler);");
-        writer.println("    });");
+        writer.println("    }" + genSubscriptionConsumerEnd() + ");");
         writer.println("  }");
         writer.println();
     }
 
+    private String genSubscriptionConsumerStart(ClassModel model, MethodInfo method) {
+        if (!timing) {
+            return "handler -> {";
+        }
+        String operation = model.getModule().translateQualifiedName(model.getFqn(), ID) + "#" + method.getName();
+        return LatencyRecorders.class.getName() + ".timed(\"" + operation + "\", handler -> {";
+    }
+
+    private String genSubscriptionConsumerEnd() {
+        return timing ? ")" : "";
+    }
+
     @Override
     protected void genBlockingMethod(boolean decl, ClassModel model, MethodInfo method, PrintWriter writer) {
         MethodInfo blockingMethod = genBlockingMethodInfo(method);
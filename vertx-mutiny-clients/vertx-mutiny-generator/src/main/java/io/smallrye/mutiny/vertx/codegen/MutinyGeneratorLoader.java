@@ -10,6 +10,6 @@ import io.vertx.codegen.GeneratorLoader;
 public class MutinyGeneratorLoader implements GeneratorLoader {
     @Override
     public Stream<Generator<?>> loadGenerators(ProcessingEnvironment processingEnv) {
-        return Stream.of(new MutinyGenerator());
+        return Stream.of(new MutinyGenerator(processingEnv.getOptions()));
     }
 }
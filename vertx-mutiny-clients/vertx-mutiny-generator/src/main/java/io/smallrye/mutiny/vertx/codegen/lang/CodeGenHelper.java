@@ -49,7 +49,7 @@ public class CodeGenHelper {
         }
     }
 
-    private static boolean isSameType(TypeInfo type, MethodInfo method) {
+    public static boolean isSameType(TypeInfo type, MethodInfo method) {
         ClassKind kind = type.getKind();
         if (kind.basic || kind.json || kind == DATA_OBJECT || kind == ENUM || kind == OTHER || kind == THROWABLE
                 || kind == VOID) {
@@ -12,8 +12,16 @@ public class ToMultiMethodCodeWriter implements ConditionalCodeWriter {
         writer.print("  private Multi<");
         writer.print(genTypeName(model.getReadStreamArg()));
         writer.println("> multi;");
+        if (model.getReadStreamArg().getKind() == ClassKind.API) {
+            writer.print("  private Multi<");
+            writer.print(model.getReadStreamArg().getName());
+            writer.println("> rawMulti;");
+        }
 
         genToMulti(model.getReadStreamArg(), "multi", writer);
+        if (model.getReadStreamArg().getKind() == ClassKind.API) {
+            genToRawMulti(model.getReadStreamArg(), "rawMulti", writer);
+        }
         genToBlockingIterable(model.getReadStreamArg(), writer);
         genToBlockingStream(model.getReadStreamArg(), writer);
     }
@@ -36,6 +44,9 @@ public class ToMultiMethodCodeWriter implements ConditionalCodeWriter {
         writer.println(" == null) {");
 
         if (type.getKind() == ClassKind.API) {
+            writer.println("      if (rawMulti != null) {");
+            writer.println("        throw new IllegalStateException(\"toRawMulti() has already been called, only one of the views can be used\");");
+            writer.println("      }");
             writer.print("      java.util.function.Function<");
             writer.print(type.getName());
             writer.print(", ");
@@ -76,6 +87,42 @@ public class ToMultiMethodCodeWriter implements ConditionalCodeWriter {
         writer.println();
     }
 
+    /**
+     * Generates a {@code toRawMulti} method emitting the Vert.x items without wrapping them. Each item can be wrapped
+     * with the {@code newInstance} method of its Mutiny type when needed.
+     * <p>
+     * As {@code toMulti}, it consumes the underlying stream: the result is cached, and the two views exclude each other.
+     */
+    private void genToRawMulti(TypeInfo type, String fieldName, PrintWriter writer) {
+        writer.println("  /**");
+        writer.println("   * Returns a {@link Multi} emitting the Vert.x items of this stream without wrapping them.");
+        writer.println("   * <p>");
+        writer.println("   * As {@link #toMulti()}, it consumes this stream: the same instance is returned by the following calls,");
+        writer.println("   * and {@link #toMulti()} cannot be called once this method has been called.");
+        writer.println("   *");
+        writer.println("   * @return the multi");
+        writer.println("   * @throws IllegalStateException if {@link #toMulti()} has already been called");
+        writer.println("   */");
+        writer.print("  public synchronized Multi<");
+        writer.print(type.getName());
+        writer.println("> toRawMulti() {");
+        writer.print("    if (");
+        writer.print(fieldName);
+        writer.println(" == null) {");
+        writer.println("      if (multi != null) {");
+        writer.println("        throw new IllegalStateException(\"toMulti() has already been called, only one of the views can be used\");");
+        writer.println("      }");
+        writer.print("      ");
+        writer.print(fieldName);
+        writer.println(" = io.smallrye.mutiny.vertx.MultiHelper.toMulti(delegate);");
+        writer.println("    }");
+        writer.print("    return ");
+        writer.print(fieldName);
+        writer.println(";");
+        writer.println("  }");
+        writer.println();
+    }
+
     private void genToBlockingIterable(TypeInfo type, PrintWriter writer) {
         writer.print("  public java.lang.Iterable");
         writer.print("<");
@@ -14,7 +14,9 @@ public class TypeArgsConstantCodeWriter implements ConditionalCodeWriter {
 
         writer.print("  public static final " + TypeArg.class.getName() + "<");
         writer.print(simpleName);
-        writer.print("> __TYPE_ARG = new " + TypeArg.class.getName() + "<>(");
+        writer.print("> __TYPE_ARG = " + TypeArg.class.getName() + ".register(");
+        writer.print(simpleName);
+        writer.print(".class, new " + TypeArg.class.getName() + "<>(");
         writer.print("    obj -> new ");
         writer.print(simpleName);
         writer.print("((");
@@ -23,7 +25,7 @@ public class TypeArgsConstantCodeWriter implements ConditionalCodeWriter {
         writer.print("    ");
         writer.print(simpleName);
         writer.println("::getDelegate");
-        writer.println("  );");
+        writer.println("  ));");
         writer.println();
     }
 
@@ -3,10 +3,16 @@ package tck;
 import org.extra.mutiny.MethodWithCompletable;
 import org.extra.mutiny.MethodWithMaybeString;
 import org.extra.mutiny.MethodWithSingleString;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.vertx.AsyncResultUni;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
 import io.vertx.test.core.VertxTestBase;
 import org.junit.Test;
 
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class AsyncResultAdapterTest extends VertxTestBase {
 
@@ -54,4 +60,38 @@ public class AsyncResultAdapterTest extends VertxTestBase {
         });
         await();
     }
+
+    @Test
+    public void testMapResult() {
+        Uni<String> uni = AsyncResultUni.<Integer, String> toUni(handler -> handler.handle(Future.succeededFuture(42)),
+                i -> "#" + i);
+        assertEquals("#42", uni.await().indefinitely());
+        assertEquals("#42", uni.await().indefinitely());
+    }
+
+    @Test
+    public void testMapperFailure() {
+        IllegalStateException cause = new IllegalStateException();
+        Uni<String> uni = AsyncResultUni.<Integer, String> toUni(handler -> handler.handle(Future.succeededFuture(42)),
+                i -> {
+                    throw cause;
+                });
+        try {
+            uni.await().indefinitely();
+            fail();
+        } catch (IllegalStateException e) {
+            assertSame(cause, e);
+        }
+    }
+
+    @Test
+    public void testNoSignalAfterCancellation() {
+        AtomicReference<Handler<AsyncResult<String>>> handlerRef = new AtomicReference<>();
+        AtomicReference<String> item = new AtomicReference<>();
+        AsyncResultUni.<String> toUni(handlerRef::set)
+                .subscribe().with(item::set)
+                .cancel();
+        handlerRef.get().handle(Future.succeededFuture("hello"));
+        assertNull(item.get());
+    }
 }
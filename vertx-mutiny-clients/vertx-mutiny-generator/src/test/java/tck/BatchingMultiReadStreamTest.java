@@ -0,0 +1,129 @@
+package tck;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.vertx.MultiHelper;
+import io.vertx.test.core.VertxTestBase;
+import io.vertx.test.fakestream.FakeStream;
+import org.junit.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class BatchingMultiReadStreamTest extends VertxTestBase {
+
+    @Test
+    public void testBatchesOnSize() {
+        FakeStream<Integer> stream = new FakeStream<>();
+        Multi<List<Integer>> multi = MultiHelper.toMultiBatched(vertx, stream, 3, Duration.ofSeconds(10));
+        BatchSubscriber subscriber = new BatchSubscriber();
+        multi.subscribe(subscriber);
+        assertEquals(0, stream.demand());
+        subscriber.request(2);
+        assertEquals(6, stream.demand());
+        for (int i = 0; i < 7; i++) {
+            stream.emit(i);
+        }
+        assertEquals(Arrays.asList(Arrays.asList(0, 1, 2), Arrays.asList(3, 4, 5)), subscriber.items);
+        subscriber.request(1);
+        stream.end();
+        assertEquals(Collections.singletonList(6), subscriber.items.get(2));
+        assertTrue(subscriber.completed);
+    }
+
+    @Test
+    public void testBatchesOnDelay() {
+        FakeStream<Integer> stream = new FakeStream<>();
+        Multi<List<Integer>> multi = MultiHelper.toMultiBatched(vertx, stream, 100, Duration.ofMillis(10));
+        BatchSubscriber subscriber = new BatchSubscriber();
+        multi.subscribe(subscriber);
+        subscriber.request(1);
+        stream.emit(1);
+        stream.emit(2);
+        assertTrue(subscriber.items.isEmpty());
+        assertWaitUntil(() -> subscriber.items.size() == 1);
+        assertEquals(Arrays.asList(1, 2), subscriber.items.get(0));
+        assertFalse(subscriber.completed);
+    }
+
+    @Test
+    public void testPendingBatchesWaitForRequests() {
+        FakeStream<Integer> stream = new FakeStream<>();
+        Multi<List<Integer>> multi = MultiHelper.toMultiBatched(vertx, stream, 2, Duration.ofMillis(5));
+        BatchSubscriber subscriber = new BatchSubscriber();
+        multi.subscribe(subscriber);
+        subscriber.request(1);
+        stream.emit(1);
+        assertWaitUntil(() -> subscriber.items.size() == 1);
+        // The remaining fetched item is kept until the next request
+        stream.emit(2);
+        stream.end();
+        assertEquals(1, subscriber.items.size());
+        assertFalse(subscriber.completed);
+        subscriber.request(1);
+        assertEquals(Collections.singletonList(2), subscriber.items.get(1));
+        assertTrue(subscriber.completed);
+    }
+
+    @Test
+    public void testFailure() {
+        FakeStream<Integer> stream = new FakeStream<>();
+        Multi<List<Integer>> multi = MultiHelper.toMultiBatched(vertx, stream, 2, Duration.ofSeconds(10));
+        BatchSubscriber subscriber = new BatchSubscriber();
+        multi.subscribe(subscriber);
+        subscriber.request(1);
+        stream.emit(1);
+        RuntimeException cause = new RuntimeException();
+        stream.fail(cause);
+        assertSame(cause, subscriber.failure);
+        assertTrue(subscriber.items.isEmpty());
+    }
+
+    @Test
+    public void testCancel() {
+        FakeStream<Integer> stream = new FakeStream<>();
+        Multi<List<Integer>> multi = MultiHelper.toMultiBatched(vertx, stream, 2, Duration.ofSeconds(10));
+        BatchSubscriber subscriber = new BatchSubscriber();
+        multi.subscribe(subscriber);
+        subscriber.request(1);
+        subscriber.subscription.cancel();
+        assertNull(stream.handler());
+        assertNull(stream.endHandler());
+    }
+
+    private static class BatchSubscriber implements Subscriber<List<Integer>> {
+
+        private final List<List<Integer>> items = new CopyOnWriteArrayList<>();
+        private volatile Subscription subscription;
+        private volatile boolean completed;
+        private volatile Throwable failure;
+
+        void request(long n) {
+            subscription.request(n);
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            subscription = s;
+        }
+
+        @Override
+        public void onNext(List<Integer> item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            failure = t;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package tck;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.vertx.MeteredExecutor;
+import io.smallrye.mutiny.vertx.MutinyHelper;
+import io.vertx.core.Context;
+import io.vertx.test.core.VertxTestBase;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class BoundedBlockingExecutorTest extends VertxTestBase {
+
+    @Test
+    public void testRejectWhenFull() throws Exception {
+        MeteredExecutor executor = MutinyHelper.boundedBlockingExecutor(vertx, 2);
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicInteger executed = new AtomicInteger();
+        Runnable action = () -> {
+            try {
+                latch.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            executed.incrementAndGet();
+        };
+        executor.execute(action);
+        executor.execute(action);
+        try {
+            executor.execute(action);
+            fail();
+        } catch (RejectedExecutionException expected) {
+            // expected
+        }
+        assertEquals(1, executor.getRejectedCount());
+        assertWaitUntil(() -> executor.getActiveCount() == 2);
+        assertEquals(0, executor.getQueueSize());
+        latch.countDown();
+        assertWaitUntil(() -> executor.getCompletedCount() == 2);
+        assertEquals(2, executed.get());
+        assertEquals(0, executor.getActiveCount());
+        assertTrue(executor.getTotalExecutionTime() >= executor.getMaxExecutionTime());
+        assertTrue(executor.getMaxExecutionTime() > 0);
+        executor.execute(action);
+        assertWaitUntil(() -> executor.getCompletedCount() == 3);
+    }
+
+    @Test
+    public void testQueueSizeAndWaitTime() throws Exception {
+        MeteredExecutor executor = MutinyHelper
+                .boundedBlockingExecutor(vertx.createSharedWorkerExecutor("bounded-test", 1), 10);
+        CountDownLatch latch = new CountDownLatch(1);
+        executor.execute(() -> {
+            try {
+                latch.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        for (int i = 0; i < 3; i++) {
+            executor.execute(() -> {
+            });
+        }
+        assertWaitUntil(() -> executor.getActiveCount() == 1);
+        assertEquals(3, executor.getQueueSize());
+        Thread.sleep(10);
+        latch.countDown();
+        assertWaitUntil(() -> executor.getCompletedCount() == 4);
+        assertEquals(0, executor.getQueueSize());
+        assertTrue(executor.getMaxWaitTime() >= TimeUnit.MILLISECONDS.toNanos(10));
+        assertTrue(executor.getTotalWaitTime() >= executor.getMaxWaitTime());
+    }
+
+    @Test
+    public void testFailuresAreReported() {
+        List<Throwable> failures = new CopyOnWriteArrayList<>();
+        MeteredExecutor executor = MutinyHelper.boundedBlockingExecutor(vertx, 10).onFailure(failures::add);
+        RuntimeException cause = new RuntimeException("boom");
+        executor.execute(() -> {
+            throw cause;
+        });
+        assertWaitUntil(() -> executor.getCompletedCount() == 1);
+        assertEquals(1, executor.getFailedCount());
+        assertEquals(1, failures.size());
+        assertSame(cause, failures.get(0));
+    }
+
+    @Test
+    public void testEmitOn() {
+        MeteredExecutor executor = MutinyHelper.boundedBlockingExecutor(vertx, 10);
+        String result = Uni.createFrom().item("hello")
+                .emitOn(executor)
+                .map(s -> {
+                    assertTrue(Context.isOnWorkerThread());
+                    return s.toUpperCase();
+                })
+                .await().indefinitely();
+        assertEquals("HELLO", result);
+    }
+
+    @Test
+    public void testVirtualThreads() {
+        MeteredExecutor executor;
+        try {
+            executor = MutinyHelper.virtualThreadExecutor(10);
+        } catch (UnsupportedOperationException e) {
+            // Virtual threads are not supported by the running JVM
+            return;
+        }
+        AtomicInteger executed = new AtomicInteger();
+        executor.execute(executed::incrementAndGet);
+        assertWaitUntil(() -> executor.getCompletedCount() == 1);
+        assertEquals(1, executed.get());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidMaxPending() {
+        MutinyHelper.boundedBlockingExecutor(vertx, 0);
+    }
+}
@@ -0,0 +1,124 @@
+package tck;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.vertx.MutinyHelper;
+import io.smallrye.mutiny.vertx.WriteStreamSubscriber;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.WriteStream;
+import io.vertx.test.core.VertxTestBase;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class BufferingWriteStreamSubscriberTest extends VertxTestBase {
+
+    @Test
+    public void testCoalesceOnSize() {
+        BufferWriteStream stream = new BufferWriteStream();
+        WriteStreamSubscriber<Buffer> subscriber = MutinyHelper.toBufferingSubscriber(vertx, stream, 10,
+                Duration.ofSeconds(10));
+        subscriber.onComplete(() -> {
+            assertTrue(stream.ended);
+            assertEquals(3, stream.writes.size());
+            assertEquals("0123456789", stream.writes.get(0).toString());
+            assertEquals("0123456789", stream.writes.get(1).toString());
+            assertEquals("01234", stream.writes.get(2).toString());
+            testComplete();
+        });
+        Multi.createFrom().range(0, 25).map(i -> Buffer.buffer(Integer.toString(i % 10))).subscribe(subscriber);
+        await();
+    }
+
+    @Test
+    public void testCoalesceOnDelay() {
+        BufferWriteStream stream = new BufferWriteStream();
+        WriteStreamSubscriber<String> subscriber = MutinyHelper.toBufferingSubscriber(vertx, stream, Buffer::buffer,
+                1024, Duration.ofMillis(10));
+        Multi.createFrom().<String> emitter(emitter -> emitter.emit("a").emit("b").emit("c")).subscribe(subscriber);
+        assertTrue(stream.writes.isEmpty());
+        assertWaitUntil(() -> stream.writes.size() == 1);
+        assertEquals("abc", stream.writes.get(0).toString());
+        assertFalse(stream.ended);
+    }
+
+    @Test
+    public void testLargeItemsAreWrittenDirectly() {
+        BufferWriteStream stream = new BufferWriteStream();
+        WriteStreamSubscriber<Buffer> subscriber = MutinyHelper.toBufferingSubscriber(vertx, stream, 2,
+                Duration.ofSeconds(10));
+        Buffer large = Buffer.buffer("large");
+        Multi.createFrom().items(Buffer.buffer("a"), large).subscribe(subscriber);
+        assertEquals(1, stream.writes.size());
+        assertEquals("alarge", stream.writes.get(0).toString());
+        Multi.createFrom().items(large).subscribe(MutinyHelper.toBufferingSubscriber(vertx, stream, 2,
+                Duration.ofSeconds(10)));
+        assertSame(large, stream.writes.get(1));
+    }
+
+    @Test
+    public void testPendingBytesAreDiscardedOnFailure() throws InterruptedException {
+        BufferWriteStream stream = new BufferWriteStream();
+        WriteStreamSubscriber<String> subscriber = MutinyHelper.toBufferingSubscriber(vertx, stream, Buffer::buffer,
+                1024, Duration.ofMillis(10));
+        List<Throwable> failures = new CopyOnWriteArrayList<>();
+        subscriber.onFailure(failures::add);
+        Multi.createFrom().<String> emitter(emitter -> emitter.emit("a").emit("b").fail(new Exception("boom")))
+                .subscribe(subscriber);
+        assertEquals(1, failures.size());
+        // Later than the delayed write
+        Thread.sleep(100);
+        assertTrue(stream.writes.isEmpty());
+        assertFalse(stream.ended);
+    }
+
+    private static class BufferWriteStream implements WriteStream<Buffer> {
+
+        private final List<Buffer> writes = new CopyOnWriteArrayList<>();
+        private volatile boolean ended;
+
+        @Override
+        public WriteStream<Buffer> exceptionHandler(Handler<Throwable> handler) {
+            return this;
+        }
+
+        @Override
+        public WriteStream<Buffer> write(Buffer data) {
+            writes.add(data);
+            return this;
+        }
+
+        @Override
+        public WriteStream<Buffer> write(Buffer data, Handler<AsyncResult<Void>> handler) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void end() {
+            ended = true;
+        }
+
+        @Override
+        public void end(Handler<AsyncResult<Void>> handler) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public WriteStream<Buffer> setWriteQueueMaxSize(int maxSize) {
+            return this;
+        }
+
+        @Override
+        public boolean writeQueueFull() {
+            return false;
+        }
+
+        @Override
+        public WriteStream<Buffer> drainHandler(Handler<Void> handler) {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package tck;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.vertx.MutinyHelper;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.test.core.VertxTestBase;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class ContextExecutorTest extends VertxTestBase {
+
+    @Test
+    public void testInlineExecutionOnContext() {
+        Context context = vertx.getOrCreateContext();
+        Executor executor = MutinyHelper.contextExecutor(context);
+        context.runOnContext(v -> {
+            AtomicBoolean executed = new AtomicBoolean();
+            executor.execute(() -> executed.set(true));
+            assertTrue(executed.get());
+            testComplete();
+        });
+        await();
+    }
+
+    @Test
+    public void testDispatchFromAnotherThread() {
+        Context context = vertx.getOrCreateContext();
+        Executor executor = MutinyHelper.contextExecutor(context);
+        List<Integer> executed = new CopyOnWriteArrayList<>();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            int value = i;
+            expected.add(value);
+            executor.execute(() -> {
+                assertSame(context, Vertx.currentContext());
+                executed.add(value);
+            });
+        }
+        assertWaitUntil(() -> executed.size() == 1000);
+        assertEquals(expected, executed);
+    }
+
+    @Test
+    public void testReentrantSubmissionIsExecutedAfterCurrentTask() {
+        Context context = vertx.getOrCreateContext();
+        Executor executor = MutinyHelper.contextExecutor(context);
+        List<String> executed = new CopyOnWriteArrayList<>();
+        context.runOnContext(v -> {
+            executor.execute(() -> {
+                executor.execute(() -> executed.add("inner"));
+                executed.add("outer");
+            });
+            assertEquals(2, executed.size());
+            assertEquals("outer", executed.get(0));
+            assertEquals("inner", executed.get(1));
+            testComplete();
+        });
+        await();
+    }
+
+    @Test
+    public void testFailureIsReportedToContext() {
+        Context context = vertx.getOrCreateContext();
+        Executor executor = MutinyHelper.contextExecutor(context);
+        RuntimeException cause = new RuntimeException("boom");
+        List<Throwable> failures = new CopyOnWriteArrayList<>();
+        context.exceptionHandler(failures::add);
+        AtomicBoolean executed = new AtomicBoolean();
+        executor.execute(() -> {
+            throw cause;
+        });
+        executor.execute(() -> executed.set(true));
+        assertWaitUntil(executed::get);
+        assertEquals(1, failures.size());
+        assertSame(cause, failures.get(0));
+    }
+
+    @Test
+    public void testEmitOn() {
+        Context context = vertx.getOrCreateContext();
+        String result = Uni.createFrom().item("hello")
+                .emitOn(MutinyHelper.contextExecutor(context))
+                .map(s -> {
+                    assertSame(context, Vertx.currentContext());
+                    return s.toUpperCase();
+                })
+                .await().indefinitely();
+        assertEquals("HELLO", result);
+    }
+}
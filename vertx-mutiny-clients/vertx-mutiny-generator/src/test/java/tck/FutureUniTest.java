@@ -0,0 +1,41 @@
+package tck;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.vertx.UniHelper;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.test.core.VertxTestBase;
+import org.junit.Test;
+
+public class FutureUniTest extends VertxTestBase {
+
+    @Test
+    public void testToUniFromFuture() {
+        Promise<String> promise = Promise.promise();
+        Uni<String> uni = UniHelper.toUni(promise.future());
+        uni.subscribe().with(item -> {
+            assertEquals("hello", item);
+            testComplete();
+        });
+        promise.complete("hello");
+        await();
+    }
+
+    @Test
+    public void testToUniFromCompletedFutureMultipleSubscribers() {
+        Uni<String> uni = UniHelper.toUni(Future.succeededFuture("hello"));
+        assertEquals("hello", uni.await().indefinitely());
+        assertEquals("hello", uni.await().indefinitely());
+    }
+
+    @Test
+    public void testToUniFromFailedFuture() {
+        IllegalStateException cause = new IllegalStateException();
+        try {
+            UniHelper.toUni(Future.<String> failedFuture(cause)).await().indefinitely();
+            fail();
+        } catch (IllegalStateException e) {
+            assertSame(cause, e);
+        }
+    }
+}
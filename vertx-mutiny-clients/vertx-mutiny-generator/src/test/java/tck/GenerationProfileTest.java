@@ -0,0 +1,32 @@
+package tck;
+
+import io.smallrye.mutiny.vertx.codegen.GenerationProfile;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class GenerationProfileTest {
+
+    @Test
+    public void testFromOption() {
+        assertEquals(GenerationProfile.FULL, GenerationProfile.fromOption(null));
+        assertEquals(GenerationProfile.FULL, GenerationProfile.fromOption(""));
+        assertEquals(GenerationProfile.FULL, GenerationProfile.fromOption("full"));
+        assertEquals(GenerationProfile.LEAN, GenerationProfile.fromOption("lean"));
+        assertEquals(GenerationProfile.LEAN, GenerationProfile.fromOption(" LEAN "));
+        try {
+            GenerationProfile.fromOption("minimal");
+            fail();
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+
+    @Test
+    public void testVariants() {
+        assertTrue(GenerationProfile.FULL.generatesVariants());
+        assertFalse(GenerationProfile.LEAN.generatesVariants());
+    }
+}
@@ -0,0 +1,270 @@
+package tck;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.Cancellable;
+import io.smallrye.mutiny.vertx.AsyncResultUni;
+import io.smallrye.mutiny.vertx.MultiReadStream;
+import io.smallrye.mutiny.vertx.ReadStreamSubscriber;
+import io.smallrye.mutiny.vertx.impl.WriteStreamSubscriberImpl;
+import io.smallrye.mutiny.vertx.instrumentation.AdapterInstrumentation;
+import io.smallrye.mutiny.vertx.instrumentation.AdapterKind;
+import io.smallrye.mutiny.vertx.instrumentation.AdapterListener;
+import io.smallrye.mutiny.vertx.instrumentation.Instrumentation;
+import io.smallrye.mutiny.vertx.instrumentation.jfr.JfrInstrumentation;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.test.core.VertxTestBase;
+import io.vertx.test.fakestream.FakeStream;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class InstrumentationTest extends VertxTestBase {
+
+    private static final List<Recorder> RECORDERS = new CopyOnWriteArrayList<>();
+    private static volatile boolean recording;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        RECORDERS.clear();
+        recording = true;
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        recording = false;
+        RECORDERS.clear();
+        super.tearDown();
+    }
+
+    @Test
+    public void testProviderIsDiscovered() {
+        assertTrue(Instrumentation.ENABLED);
+        recording = false;
+        assertNull(Instrumentation.listener(AdapterKind.MULTI_READ_STREAM, this));
+    }
+
+    @Test
+    public void testReadStreamSubscriber() {
+        List<Integer> items = new ArrayList<>();
+        ReadStream<Integer> stream = ReadStreamSubscriber.asReadStream(Multi.createFrom().range(0, 100),
+                Function.identity());
+        stream.pause();
+        stream.handler(items::add);
+        stream.resume();
+
+        assertEquals(100, items.size());
+        Recorder recorder = recorder(AdapterKind.READ_STREAM_SUBSCRIBER);
+        assertTrue(recorder.requested.get() >= 100);
+        assertEquals(100, recorder.received.get());
+        assertEquals(100, recorder.emitted.get());
+        assertEquals(1, recorder.paused.get());
+        assertEquals(1, recorder.resumed.get());
+        assertEquals(1, recorder.terminated.get());
+        assertNull(recorder.failure);
+    }
+
+    @Test
+    public void testWriteStreamSubscriberPausedOnWriteQueueFull() {
+        FakeWriteStream stream = new FakeWriteStream(vertx);
+        WriteStreamSubscriberImpl<Integer, Integer> subscriber = new WriteStreamSubscriberImpl<>(stream,
+                Function.identity());
+        Recorder recorder = recorder(AdapterKind.WRITE_STREAM_SUBSCRIBER);
+        subscriber.onComplete(() -> {
+            assertEquals(1000, recorder.received.get());
+            assertEquals(1000, recorder.emitted.get());
+            assertTrue(recorder.requested.get() >= 1000);
+            assertEquals(subscriber.getQueueFullCount(), recorder.paused.get());
+            // The stream may still be full when the last item is written
+            assertTrue(recorder.resumed.get() > 0);
+            assertTrue(recorder.paused.get() - recorder.resumed.get() <= 1);
+            assertEquals(1, recorder.terminated.get());
+            testComplete();
+        });
+        vertx.runOnContext(v -> Multi.createFrom().range(0, 1000).subscribe(subscriber));
+        await();
+    }
+
+    @Test
+    public void testMultiReadStream() {
+        FakeStream<Integer> stream = new FakeStream<>();
+        List<Integer> items = new ArrayList<>();
+        Cancellable cancellable = new MultiReadStream<>(stream, Function.identity())
+                .subscribe().with(items::add);
+        Recorder recorder = recorder(AdapterKind.MULTI_READ_STREAM);
+        stream.emit(Stream.of(1, 2, 3));
+
+        assertEquals(3, items.size());
+        assertEquals(Long.MAX_VALUE, recorder.requested.get());
+        assertEquals(3, recorder.received.get());
+        assertEquals(3, recorder.emitted.get());
+
+        cancellable.cancel();
+        assertEquals(1, recorder.cancelled.get());
+        assertEquals(0, recorder.terminated.get());
+    }
+
+    @Test
+    public void testAsyncResultUni() {
+        Promise<String> success = Promise.promise();
+        Uni<String> uni = AsyncResultUni.toUni(h -> success.future().onComplete(h));
+        List<String> items = new ArrayList<>();
+        uni.subscribe().with(items::add);
+        success.complete("hello");
+        assertEquals(1, items.size());
+
+        Recorder recorder = recorder(AdapterKind.ASYNC_RESULT_UNI);
+        assertEquals(1, recorder.requested.get());
+        assertEquals(1, recorder.received.get());
+        assertEquals(1, recorder.emitted.get());
+        assertEquals(1, recorder.terminated.get());
+        assertNull(recorder.failure);
+
+        RECORDERS.clear();
+        Exception boom = new Exception("boom");
+        AsyncResultUni.<String> toUni(h -> h.handle(Future.failedFuture(boom)))
+                .subscribe().with(items::add, failure -> {
+                });
+        recorder = recorder(AdapterKind.ASYNC_RESULT_UNI);
+        assertEquals(0, recorder.received.get());
+        assertEquals(1, recorder.terminated.get());
+        assertSame(boom, recorder.failure);
+
+        RECORDERS.clear();
+        AsyncResultUni.<String> toUni(h -> {
+        }).subscribe().with(items::add).cancel();
+        recorder = recorder(AdapterKind.ASYNC_RESULT_UNI);
+        assertEquals(1, recorder.cancelled.get());
+        assertEquals(0, recorder.terminated.get());
+    }
+
+    @Test
+    public void testJfrEvents() throws Exception {
+        File file = File.createTempFile("instrumentation", ".jfr");
+        try (Recording jfr = new Recording()) {
+            jfr.enable("io.smallrye.mutiny.vertx.AdapterPaused");
+            jfr.enable("io.smallrye.mutiny.vertx.AdapterTerminated");
+            jfr.start();
+
+            AdapterListener listener = new JfrInstrumentation().newListener(AdapterKind.WRITE_STREAM_SUBSCRIBER, this);
+            listener.onRequest(10);
+            for (int i = 0; i < 5; i++) {
+                listener.onReceived();
+                listener.onEmitted();
+            }
+            listener.onPause();
+            Thread.sleep(10);
+            listener.onResume();
+            listener.onTerminate(null);
+
+            jfr.stop();
+            jfr.dump(file.toPath());
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file.toPath()).stream()
+                .filter(e -> e.getEventType().getName().startsWith("io.smallrye.mutiny.vertx."))
+                .collect(Collectors.toList());
+        file.delete();
+
+        RecordedEvent paused = find(events, "io.smallrye.mutiny.vertx.AdapterPaused");
+        assertEquals("WRITE_STREAM_SUBSCRIBER", paused.getString("kind"));
+        assertTrue(paused.getDuration("pausedTime").toMillis() >= 10);
+
+        RecordedEvent terminated = find(events, "io.smallrye.mutiny.vertx.AdapterTerminated");
+        assertEquals(10, terminated.getLong("requested"));
+        assertEquals(5, terminated.getLong("received"));
+        assertEquals(5, terminated.getLong("emitted"));
+        assertFalse(terminated.getBoolean("cancelled"));
+        assertNull(terminated.getString("failure"));
+    }
+
+    private static RecordedEvent find(List<RecordedEvent> events, String name) {
+        return events.stream().filter(e -> e.getEventType().getName().equals(name)).findFirst()
+                .orElseThrow(() -> new AssertionError("No " + name + " event in " + events));
+    }
+
+    private Recorder recorder(AdapterKind kind) {
+        List<Recorder> matching = RECORDERS.stream().filter(r -> r.kind == kind).collect(Collectors.toList());
+        assertEquals(1, matching.size());
+        return matching.get(0);
+    }
+
+    public static class RecordingInstrumentation implements AdapterInstrumentation {
+
+        @Override
+        public AdapterListener newListener(AdapterKind kind, Object adapter) {
+            if (!recording) {
+                return null;
+            }
+            Recorder recorder = new Recorder(kind);
+            RECORDERS.add(recorder);
+            return recorder;
+        }
+    }
+
+    private static class Recorder implements AdapterListener {
+
+        final AdapterKind kind;
+        final AtomicLong requested = new AtomicLong();
+        final AtomicLong received = new AtomicLong();
+        final AtomicLong emitted = new AtomicLong();
+        final AtomicLong paused = new AtomicLong();
+        final AtomicLong resumed = new AtomicLong();
+        final AtomicLong terminated = new AtomicLong();
+        final AtomicLong cancelled = new AtomicLong();
+        volatile Throwable failure;
+
+        Recorder(AdapterKind kind) {
+            this.kind = kind;
+        }
+
+        @Override
+        public void onRequest(long n) {
+            requested.accumulateAndGet(n, (a, b) -> a + b < 0 ? Long.MAX_VALUE : a + b);
+        }
+
+        @Override
+        public void onReceived() {
+            received.incrementAndGet();
+        }
+
+        @Override
+        public void onEmitted() {
+            emitted.incrementAndGet();
+        }
+
+        @Override
+        public void onPause() {
+            paused.incrementAndGet();
+        }
+
+        @Override
+        public void onResume() {
+            resumed.incrementAndGet();
+        }
+
+        @Override
+        public void onTerminate(Throwable failure) {
+            this.failure = failure;
+            terminated.incrementAndGet();
+        }
+
+        @Override
+        public void onCancel() {
+            cancelled.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package tck;
+
+import org.timed.mutiny.TimedMethod;
+import io.smallrye.mutiny.vertx.HdrHistogramLatencyRecorder;
+import io.smallrye.mutiny.vertx.LatencyRecorder;
+import io.smallrye.mutiny.vertx.LatencyRecorders;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.test.core.VertxTestBase;
+import org.HdrHistogram.Histogram;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class LatencyRecorderTest extends VertxTestBase {
+
+    private static final String OPERATION = "org.timed.mutiny.TimedMethod#doSomethingWithResult";
+
+    private LatencyRecorder previous;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        previous = LatencyRecorders.get();
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        LatencyRecorders.set(previous);
+        super.tearDown();
+    }
+
+    @Test
+    public void testDefaultRecorderUsesHdrHistogram() {
+        assertTrue(LatencyRecorders.get() instanceof HdrHistogramLatencyRecorder);
+        HdrHistogramLatencyRecorder recorder = new HdrHistogramLatencyRecorder();
+        LatencyRecorders.set(recorder);
+
+        TimedMethod meth = new TimedMethod(handler -> handler.handle(Future.succeededFuture("foo")));
+        for (int i = 0; i < 10; i++) {
+            assertEquals("foo", meth.doSomethingWithResultAndAwait());
+        }
+
+        assertTrue(recorder.getOperations().contains(OPERATION));
+        Histogram histogram = recorder.getHistogram(OPERATION);
+        assertEquals(10, histogram.getTotalCount());
+        assertEquals(0, recorder.getFailureCount(OPERATION));
+    }
+
+    @Test
+    public void testLatencyIsMeasuredFromSubscriptionToResult() {
+        List<Long> latencies = new ArrayList<>();
+        List<Boolean> failures = new ArrayList<>();
+        LatencyRecorders.set((operation, latency, failed) -> {
+            assertEquals(OPERATION, operation);
+            latencies.add(latency);
+            failures.add(failed);
+        });
+
+        List<Promise<String>> pending = new ArrayList<>();
+        TimedMethod meth = new TimedMethod(handler -> {
+            Promise<String> promise = Promise.promise();
+            promise.future().onComplete(handler);
+            pending.add(promise);
+        });
+
+        meth.doSomethingWithResult().subscribe().with(item -> {
+        }, failure -> {
+        });
+        assertTrue(latencies.isEmpty());
+        sleep(20);
+        pending.get(0).complete("foo");
+        assertEquals(1, latencies.size());
+        assertTrue(latencies.get(0) >= 20_000_000L);
+        assertFalse(failures.get(0));
+
+        meth.doSomethingWithResult().subscribe().with(item -> {
+        }, failure -> {
+        });
+        pending.get(1).fail("boom");
+        assertEquals(2, latencies.size());
+        assertTrue(failures.get(1));
+    }
+
+    @Test
+    public void testBrokenRecorderIsIgnored() {
+        LatencyRecorders.set((operation, latency, failed) -> {
+            throw new IllegalStateException("boom");
+        });
+        TimedMethod meth = new TimedMethod(handler -> handler.handle(Future.succeededFuture("foo")));
+        assertEquals("foo", meth.doSomethingWithResultAndAwait());
+    }
+
+    @Test
+    public void testNullRecorderDiscardsLatencies() {
+        LatencyRecorders.set(null);
+        TimedMethod meth = new TimedMethod(handler -> handler.handle(Future.succeededFuture("foo")));
+        assertEquals("foo", meth.doSomethingWithResultAndAwait());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
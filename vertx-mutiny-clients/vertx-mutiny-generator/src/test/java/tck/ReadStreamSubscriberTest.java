@@ -1,8 +1,15 @@
 package tck;
 
+import io.smallrye.mutiny.subscription.BackPressureFailure;
 import io.smallrye.mutiny.vertx.ReadStreamSubscriber;
+import org.junit.Test;
 import org.reactivestreams.Subscription;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 
 /**
@@ -10,6 +17,8 @@ import java.util.function.Function;
  */
 public class ReadStreamSubscriberTest extends ReadStreamSubscriberTestBase {
 
+    private static final int BUFFER_SIZE = ReadStreamSubscriber.BUFFER_SIZE;
+
     @Override
     public long bufferSize() {
         return ReadStreamSubscriber.BUFFER_SIZE;
@@ -49,4 +58,109 @@ public class ReadStreamSubscriberTest extends ReadStreamSubscriberTestBase {
 
         };
     }
+
+    @Test
+    public void testCustomPrefetchAndLowWatermark() {
+        ReadStreamSubscriber<String, String> subscriber = new ReadStreamSubscriber<>(Function.identity(), 4, 1);
+        AtomicLong requested = new AtomicLong();
+        subscriber.onSubscribe(new Subscription() {
+            @Override
+            public void request(long n) {
+                requested.addAndGet(n);
+            }
+
+            @Override
+            public void cancel() {
+            }
+        });
+        List<String> received = new ArrayList<>();
+        subscriber.handler(received::add);
+        assertEquals(4, requested.get());
+        for (int i = 0; i < 3; i++) {
+            subscriber.onNext("" + i);
+            assertEquals(4, requested.get());
+        }
+        subscriber.onNext("3");
+        assertEquals(8, requested.get());
+        assertEquals(4, received.size());
+    }
+
+    @Test
+    public void testInvalidPrefetch() {
+        try {
+            new ReadStreamSubscriber<>(Function.identity(), 0);
+            fail();
+        } catch (IllegalArgumentException expected) {
+        }
+        try {
+            new ReadStreamSubscriber<>(Function.identity(), 4, 5);
+            fail();
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+
+    @Test
+    public void testOverflow() {
+        ReadStreamSubscriber<String, String> subscriber = new ReadStreamSubscriber<>(Function.identity(), 2);
+        AtomicBoolean cancelled = new AtomicBoolean();
+        subscriber.onSubscribe(new Subscription() {
+            @Override
+            public void request(long n) {
+            }
+
+            @Override
+            public void cancel() {
+                cancelled.set(true);
+            }
+        });
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        subscriber.exceptionHandler(failure::set);
+        subscriber.pause();
+        subscriber.handler(item -> {
+        });
+        subscriber.onNext("0");
+        subscriber.onNext("1");
+        subscriber.onNext("2");
+        assertTrue(cancelled.get());
+        subscriber.resume();
+        assertTrue(failure.get() instanceof BackPressureFailure);
+    }
+
+    @Test
+    public void testFetch() {
+        Sender sender = sender();
+        List<String> received = new ArrayList<>();
+        sender.stream.pause();
+        sender.stream.handler(received::add);
+        sender.assertRequested(BUFFER_SIZE);
+        sender.stream.fetch(3);
+        sender.emit(5);
+        assertEquals(3, received.size());
+        sender.stream.fetch(1);
+        assertEquals(4, received.size());
+        sender.stream.resume();
+        assertEquals(5, received.size());
+    }
+
+    @Test
+    public void testFetchMoreThanPrefetch() {
+        Sender sender = sender();
+        List<String> received = new ArrayList<>();
+        sender.stream.pause();
+        sender.stream.handler(received::add);
+        sender.stream.fetch(1000);
+        sender.assertRequested(1000);
+        sender.emit(1000);
+        assertEquals(1000, received.size());
+    }
+
+    @Test
+    public void testInvalidFetch() {
+        Sender sender = sender();
+        try {
+            sender.stream.fetch(-1);
+            fail();
+        } catch (IllegalArgumentException expected) {
+        }
+    }
 }
@@ -0,0 +1,62 @@
+package tck;
+
+import io.smallrye.mutiny.vertx.MutinyGen;
+import io.smallrye.mutiny.vertx.TypeArg;
+import org.extra.mutiny.Foo;
+import org.junit.Test;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class TypeArgTest {
+
+    @Test
+    public void testGeneratedClass() {
+        TypeArg<Foo> typeArg = TypeArg.of(Foo.class);
+        assertSame(Foo.__TYPE_ARG, typeArg);
+        assertSame(typeArg, TypeArg.of(Foo.class));
+        org.extra.Foo delegate = new org.extra.Foo.Impl();
+        Foo wrapped = typeArg.wrap(delegate);
+        assertNotNull(wrapped);
+        assertSame(delegate, wrapped.getDelegate());
+        assertSame(delegate, typeArg.unwrap(wrapped));
+    }
+
+    @Test
+    public void testUnknownClass() {
+        assertSame(TypeArg.unknown(), TypeArg.of(String.class));
+        assertSame(TypeArg.unknown(), TypeArg.of(String.class));
+    }
+
+    @Test
+    public void testLookupBeforeRegistration() {
+        // Looked up while the class is initialized, before its type arg is set
+        assertNull(RegisteredLate.EARLY);
+        assertSame(RegisteredLate.__TYPE_ARG, TypeArg.of(RegisteredLate.class));
+    }
+
+    @Test
+    public void testLookupBeforeInitialization() {
+        assertNull(AssignedLate.EARLY);
+        assertSame(AssignedLate.__TYPE_ARG, TypeArg.of(AssignedLate.class));
+        assertSame(AssignedLate.__TYPE_ARG, TypeArg.of(AssignedLate.class));
+    }
+
+    @MutinyGen(Object.class)
+    public static class RegisteredLate {
+
+        static final TypeArg<RegisteredLate> EARLY = TypeArg.of(RegisteredLate.class);
+
+        public static final TypeArg<RegisteredLate> __TYPE_ARG = TypeArg.register(RegisteredLate.class,
+                new TypeArg<>(o -> new RegisteredLate(), o -> o));
+    }
+
+    @MutinyGen(Object.class)
+    public static class AssignedLate {
+
+        static final TypeArg<AssignedLate> EARLY = TypeArg.of(AssignedLate.class);
+
+        public static final TypeArg<AssignedLate> __TYPE_ARG = new TypeArg<>(o -> new AssignedLate(), o -> o);
+    }
+}
@@ -0,0 +1,123 @@
+package tck;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.vertx.MutinyHelper;
+import io.smallrye.mutiny.vertx.WriteStreamSubscriber;
+import io.smallrye.mutiny.vertx.impl.WriteStreamSubscriberImpl;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
+import io.vertx.core.streams.WriteStream;
+import io.vertx.test.core.VertxTestBase;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+public class WriteStreamSubscriberTest extends VertxTestBase {
+
+    @Test
+    public void testWriteAll() {
+        FakeWriteStream stream = new FakeWriteStream(vertx);
+        WriteStreamSubscriber<Integer> subscriber = MutinyHelper.toSubscriber(stream);
+        subscriber.onComplete(() -> {
+            assertEquals(1000, stream.getCount());
+            assertTrue(stream.endInvoked());
+            assertTrue(stream.drainHandlerInvoked());
+            testComplete();
+        });
+        vertx.runOnContext(v -> Multi.createFrom().range(0, 1000).subscribe(subscriber));
+        await();
+    }
+
+    @Test
+    public void testWindowShrinksWhenQueueIsFull() {
+        FakeWriteStream stream = new FakeWriteStream(vertx);
+        WriteStreamSubscriberImpl<Integer, Integer> subscriber = new WriteStreamSubscriberImpl<>(stream,
+                Function.identity());
+        subscriber.onComplete(() -> {
+            assertEquals(1000, stream.getCount());
+            assertTrue(subscriber.getQueueFullCount() > 0);
+            assertEquals(WriteStreamSubscriberImpl.DEFAULT_MIN_BATCH_SIZE, subscriber.getWindow());
+            testComplete();
+        });
+        vertx.runOnContext(v -> Multi.createFrom().range(0, 1000).subscribe(subscriber));
+        await();
+    }
+
+    @Test
+    public void testWindowGrowsWhenQueueIsNeverFull() {
+        List<Integer> written = new ArrayList<>();
+        WriteStreamSubscriberImpl<Integer, Integer> subscriber = new WriteStreamSubscriberImpl<>(
+                new ListWriteStream(written), Function.identity(), 16, 4, 256);
+        Multi.createFrom().range(0, 10000).subscribe(subscriber);
+        assertEquals(10000, written.size());
+        assertEquals(256, subscriber.getWindow());
+        assertEquals(0, subscriber.getQueueFullCount());
+        assertTrue(subscriber.getRefillCount() < 10000 / 16);
+    }
+
+    @Test
+    public void testInvalidBatchSizes() {
+        List<Integer> written = new ArrayList<>();
+        try {
+            new WriteStreamSubscriberImpl<>(new ListWriteStream(written), Function.identity(), 2, 4, 256);
+            fail();
+        } catch (IllegalArgumentException expected) {
+        }
+        try {
+            new WriteStreamSubscriberImpl<>(new ListWriteStream(written), Function.identity(), 512, 4, 256);
+            fail();
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+
+    private static class ListWriteStream implements WriteStream<Integer> {
+
+        private final List<Integer> items;
+
+        private ListWriteStream(List<Integer> items) {
+            this.items = items;
+        }
+
+        @Override
+        public WriteStream<Integer> exceptionHandler(Handler<Throwable> handler) {
+            return this;
+        }
+
+        @Override
+        public WriteStream<Integer> write(Integer data) {
+            items.add(data);
+            return this;
+        }
+
+        @Override
+        public WriteStream<Integer> write(Integer data, Handler<AsyncResult<Void>> handler) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void end() {
+        }
+
+        @Override
+        public void end(Handler<AsyncResult<Void>> handler) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public WriteStream<Integer> setWriteQueueMaxSize(int maxSize) {
+            return this;
+        }
+
+        @Override
+        public boolean writeQueueFull() {
+            return false;
+        }
+
+        @Override
+        public WriteStream<Integer> drainHandler(Handler<Void> handler) {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package org.timed;
+
+import io.vertx.codegen.annotations.VertxGen;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
+
+/**
+ * Generated with the timing option, unlike the TCK.
+ */
+@VertxGen
+public interface TimedMethod {
+
+    void doSomethingWithResult(Handler<AsyncResult<String>> handler);
+
+}
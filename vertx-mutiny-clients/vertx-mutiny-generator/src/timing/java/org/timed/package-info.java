@@ -0,0 +1,4 @@
+@ModuleGen(name = "timed", groupPackage = "org.timed")
+package org.timed;
+
+import io.vertx.codegen.annotations.ModuleGen;
@@ -1,47 +1,158 @@
 package io.smallrye.mutiny.vertx;
 
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.operators.AbstractUni;
 import io.smallrye.mutiny.operators.UniSerializedSubscriber;
+import io.smallrye.mutiny.subscription.UniSubscription;
+import io.smallrye.mutiny.vertx.instrumentation.AdapterKind;
+import io.smallrye.mutiny.vertx.instrumentation.AdapterListener;
+import io.smallrye.mutiny.vertx.instrumentation.Instrumentation;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Handler;
 
+/**
+ * A {@link Uni} adapting a callback-based asynchronous method.
+ * <p>
+ * Each subscription allocates a single object, acting as both the {@link Handler} passed to the asynchronous method and
+ * the {@link UniSubscription} passed downstream. An optional {@code mapper} converts the result before it is emitted,
+ * avoiding an additional converting handler.
+ *
+ * @param <T> the type of item
+ */
 public class AsyncResultUni<T> extends AbstractUni<T> implements Uni<T> {
-    private final Consumer<Handler<AsyncResult<T>>> subscriptionConsumer;
+
+    private final Consumer<Handler<AsyncResult<Object>>> subscriptionConsumer;
+    private final Function<Object, T> mapper;
 
     public static <T> Uni<T> toUni(Consumer<Handler<AsyncResult<T>>> subscriptionConsumer) {
         return new AsyncResultUni<>(subscriptionConsumer);
     }
 
+    /**
+     * Like {@link #toUni(Consumer)}, except the provided {@code mapper} is applied to the result of the asynchronous
+     * method before being emitted.
+     *
+     * @param subscriptionConsumer the code executed when the returned {@link Uni} is subscribed
+     * @param mapper the function converting the result, must not be {@code null}
+     * @param <I> the type of result produced by the asynchronous method
+     * @param <T> the type of item
+     * @return the uni
+     */
+    public static <I, T> Uni<T> toUni(Consumer<Handler<AsyncResult<I>>> subscriptionConsumer,
+            Function<I, T> mapper) {
+        return new AsyncResultUni<>(subscriptionConsumer, mapper);
+    }
+
     public AsyncResultUni(Consumer<Handler<AsyncResult<T>>> subscriptionConsumer) {
-        this.subscriptionConsumer = subscriptionConsumer;
+        this(subscriptionConsumer, null);
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private <I> AsyncResultUni(Consumer<Handler<AsyncResult<I>>> subscriptionConsumer, Function<I, T> mapper) {
+        this.subscriptionConsumer = (Consumer) subscriptionConsumer;
+        this.mapper = (Function) mapper;
     }
 
     @Override
     protected void subscribing(UniSerializedSubscriber<? super T> downstream) {
-        AtomicBoolean terminated = new AtomicBoolean();
-        downstream.onSubscribe(() -> terminated.set(true));
+        AsyncResultSubscription<T> subscription = new AsyncResultSubscription<>(downstream, mapper,
+                Instrumentation.listener(AdapterKind.ASYNC_RESULT_UNI, this));
+        downstream.onSubscribe(subscription);
 
-        if (!terminated.get()) {
+        if (!subscription.isTerminated()) {
             try {
-                subscriptionConsumer.accept(ar -> {
-                    if (!terminated.getAndSet(true)) {
-                        if (ar.succeeded()) {
-                            T val = ar.result();
-                            downstream.onItem(val);
-                        } else if (ar.failed()) {
-                            downstream.onFailure(ar.cause());
-                        }
-                    }
-                });
+                subscriptionConsumer.accept(subscription);
             } catch (Exception e) {
-                if (!terminated.getAndSet(true)) {
-                    downstream.onFailure(e);
+                subscription.fail(e);
+            }
+        }
+    }
+
+    private static final class AsyncResultSubscription<T> implements Handler<AsyncResult<Object>>, UniSubscription {
+
+        private static final int PENDING = 0;
+        private static final int TERMINATED = 1;
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicIntegerFieldUpdater<AsyncResultSubscription> STATE = AtomicIntegerFieldUpdater
+                .newUpdater(AsyncResultSubscription.class, "state");
+
+        private final UniSerializedSubscriber<? super T> downstream;
+        private final Function<Object, T> mapper;
+        // null when the instrumentation is disabled
+        private final AdapterListener listener;
+
+        private volatile int state = PENDING;
+
+        AsyncResultSubscription(UniSerializedSubscriber<? super T> downstream, Function<Object, T> mapper,
+                AdapterListener listener) {
+            this.downstream = downstream;
+            this.mapper = mapper;
+            this.listener = listener;
+            if (listener != null) {
+                listener.onRequest(1L);
+            }
+        }
+
+        boolean isTerminated() {
+            return state == TERMINATED;
+        }
+
+        @Override
+        public void cancel() {
+            if (listener == null) {
+                state = TERMINATED;
+            } else if (STATE.getAndSet(this, TERMINATED) == PENDING) {
+                listener.onCancel();
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public void handle(AsyncResult<Object> ar) {
+            if (!STATE.compareAndSet(this, PENDING, TERMINATED)) {
+                return;
+            }
+            if (ar.failed()) {
+                terminate(ar.cause());
+                return;
+            }
+            if (listener != null) {
+                listener.onReceived();
+            }
+            T item;
+            if (mapper == null) {
+                item = (T) ar.result();
+            } else {
+                try {
+                    item = mapper.apply(ar.result());
+                } catch (Throwable e) {
+                    terminate(e);
+                    return;
                 }
             }
+            if (listener != null) {
+                listener.onEmitted();
+                listener.onTerminate(null);
+            }
+            downstream.onItem(item);
+        }
+
+        void fail(Throwable failure) {
+            if (STATE.compareAndSet(this, PENDING, TERMINATED)) {
+                terminate(failure);
+            }
+        }
+
+        private void terminate(Throwable failure) {
+            if (listener != null) {
+                listener.onTerminate(failure);
+            }
+            downstream.onFailure(failure);
         }
     }
 }
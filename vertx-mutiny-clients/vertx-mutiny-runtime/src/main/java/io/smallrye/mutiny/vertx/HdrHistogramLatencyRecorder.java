@@ -0,0 +1,82 @@
+package io.smallrye.mutiny.vertx;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * A {@link LatencyRecorder} keeping an auto-resizing HdrHistogram per operation.
+ * <p>
+ * The latencies are recorded in nanoseconds, successful and failed operations in the same histogram. Requires
+ * {@code org.hdrhistogram:HdrHistogram} on the classpath.
+ */
+public class HdrHistogramLatencyRecorder implements LatencyRecorder {
+
+    public static final int DEFAULT_SIGNIFICANT_DIGITS = 3;
+
+    private final int significantDigits;
+    private final ConcurrentMap<String, Histogram> histograms = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LongAdder> failures = new ConcurrentHashMap<>();
+
+    public HdrHistogramLatencyRecorder() {
+        this(DEFAULT_SIGNIFICANT_DIGITS);
+    }
+
+    /**
+     * @param significantDigits the number of significant decimal digits of the histograms, between 0 and 5
+     */
+    public HdrHistogramLatencyRecorder(int significantDigits) {
+        if (significantDigits < 0 || significantDigits > 5) {
+            throw new IllegalArgumentException("`significantDigits` must be between 0 and 5");
+        }
+        this.significantDigits = significantDigits;
+    }
+
+    @Override
+    public void record(String operation, long latency, boolean failed) {
+        histograms.computeIfAbsent(operation, k -> new ConcurrentHistogram(significantDigits))
+                .recordValue(Math.max(0L, latency));
+        if (failed) {
+            failures.computeIfAbsent(operation, k -> new LongAdder()).increment();
+        }
+    }
+
+    /**
+     * @return the recorded operations
+     */
+    public Set<String> getOperations() {
+        return histograms.keySet();
+    }
+
+    /**
+     * Gets the live histogram of an operation. Use {@link Histogram#copy()} to get a consistent snapshot, and
+     * {@link Histogram#reset()} to start a new interval.
+     *
+     * @param operation the operation
+     * @return the histogram, {@code null} if the operation has not been recorded
+     */
+    public Histogram getHistogram(String operation) {
+        return histograms.get(operation);
+    }
+
+    /**
+     * @param operation the operation
+     * @return the number of failed executions of the operation
+     */
+    public long getFailureCount(String operation) {
+        LongAdder adder = failures.get(operation);
+        return adder == null ? 0L : adder.sum();
+    }
+
+    /**
+     * Removes all the histograms and failure counts.
+     */
+    public void clear() {
+        histograms.clear();
+        failures.clear();
+    }
+}
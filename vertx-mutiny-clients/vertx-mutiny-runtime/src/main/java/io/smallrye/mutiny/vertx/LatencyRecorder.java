@@ -0,0 +1,21 @@
+package io.smallrye.mutiny.vertx;
+
+/**
+ * Records the latency of asynchronous operations, from the subscription to the reception of the result.
+ * <p>
+ * The generated {@link io.smallrye.mutiny.Uni} methods report to the recorder returned by
+ * {@link LatencyRecorders#get()} when the generator runs with the {@code codegen.mutiny.timing} option. Implementations
+ * are called from the event loop and must not block.
+ */
+@FunctionalInterface
+public interface LatencyRecorder {
+
+    /**
+     * Records the latency of an operation.
+     *
+     * @param operation the operation, formatted as {@code class#method}
+     * @param latency the latency in nanoseconds
+     * @param failed whether the operation failed
+     */
+    void record(String operation, long latency, boolean failed);
+}
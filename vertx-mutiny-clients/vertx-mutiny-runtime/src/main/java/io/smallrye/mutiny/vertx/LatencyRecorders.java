@@ -0,0 +1,78 @@
+package io.smallrye.mutiny.vertx;
+
+import java.util.function.Consumer;
+
+import io.smallrye.mutiny.helpers.ParameterValidation;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
+
+/**
+ * Holds the {@link LatencyRecorder} used by the timed generated methods.
+ * <p>
+ * By default, a {@link HdrHistogramLatencyRecorder} is used if HdrHistogram is available on the classpath, otherwise
+ * the latencies are discarded.
+ */
+public final class LatencyRecorders {
+
+    private static final LatencyRecorder NOOP = (operation, latency, failed) -> {
+        // Discard the latency
+    };
+
+    private static volatile LatencyRecorder recorder = createDefault();
+
+    private LatencyRecorders() {
+        // Avoid direct instantiation
+    }
+
+    /**
+     * @return the current recorder
+     */
+    public static LatencyRecorder get() {
+        return recorder;
+    }
+
+    /**
+     * Replaces the current recorder.
+     *
+     * @param recorder the recorder, {@code null} to discard the latencies
+     */
+    public static void set(LatencyRecorder recorder) {
+        LatencyRecorders.recorder = recorder == null ? NOOP : recorder;
+    }
+
+    /**
+     * Wraps the code executed on subscription of an {@link AsyncResultUni} so the time elapsed between the
+     * subscription and the reception of the result is reported to the current recorder. The failures of the recorder
+     * are ignored, the result is always passed to the handler.
+     *
+     * @param operation the operation, formatted as {@code class#method}
+     * @param subscriptionConsumer the code executed when the uni is subscribed
+     * @param <T> the type of result
+     * @return the timed subscription consumer
+     */
+    public static <T> Consumer<Handler<AsyncResult<T>>> timed(String operation,
+            Consumer<Handler<AsyncResult<T>>> subscriptionConsumer) {
+        ParameterValidation.nonNull(operation, "operation");
+        ParameterValidation.nonNull(subscriptionConsumer, "subscriptionConsumer");
+        return handler -> {
+            long start = System.nanoTime();
+            subscriptionConsumer.accept(ar -> {
+                try {
+                    recorder.record(operation, System.nanoTime() - start, ar.failed());
+                } catch (RuntimeException e) {
+                    // A broken recorder must not break the generated methods
+                }
+                handler.handle(ar);
+            });
+        };
+    }
+
+    private static LatencyRecorder createDefault() {
+        try {
+            Class.forName("org.HdrHistogram.ConcurrentHistogram", false, LatencyRecorders.class.getClassLoader());
+        } catch (ClassNotFoundException | LinkageError e) {
+            return NOOP;
+        }
+        return new HdrHistogramLatencyRecorder();
+    }
+}
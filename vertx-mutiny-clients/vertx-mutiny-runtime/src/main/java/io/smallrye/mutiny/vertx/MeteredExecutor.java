@@ -0,0 +1,75 @@
+package io.smallrye.mutiny.vertx;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+
+/**
+ * A bounded {@link Executor} running blocking actions and recording how they are queued and executed.
+ * <p>
+ * The number of pending actions (queued or running) is bounded: once the bound is reached, {@link #execute(Runnable)}
+ * throws a {@link RejectedExecutionException}. When the executor is used with {@code emitOn} or
+ * {@code runSubscriptionOn}, the rejection is propagated downstream as a failure.
+ * <p>
+ * Times are expressed in nanoseconds.
+ */
+public interface MeteredExecutor extends Executor {
+
+    /**
+     * Sets the callback invoked when an action throws an exception.
+     *
+     * @param callback the callback invoked with the failure
+     * @return a reference to this, so the API can be used fluently
+     */
+    MeteredExecutor onFailure(Consumer<? super Throwable> callback);
+
+    /**
+     * @return the maximum number of pending actions
+     */
+    int getMaxPending();
+
+    /**
+     * @return the number of submitted actions waiting to be executed
+     */
+    int getQueueSize();
+
+    /**
+     * @return the number of actions being executed
+     */
+    int getActiveCount();
+
+    /**
+     * @return the number of executed actions, including the failed ones
+     */
+    long getCompletedCount();
+
+    /**
+     * @return the number of executed actions that have thrown an exception
+     */
+    long getFailedCount();
+
+    /**
+     * @return the number of rejected actions
+     */
+    long getRejectedCount();
+
+    /**
+     * @return the cumulated time spent by the executed actions waiting to be executed
+     */
+    long getTotalWaitTime();
+
+    /**
+     * @return the longest time spent by an action waiting to be executed
+     */
+    long getMaxWaitTime();
+
+    /**
+     * @return the cumulated execution time of the executed actions
+     */
+    long getTotalExecutionTime();
+
+    /**
+     * @return the longest execution time of an action
+     */
+    long getMaxExecutionTime();
+}
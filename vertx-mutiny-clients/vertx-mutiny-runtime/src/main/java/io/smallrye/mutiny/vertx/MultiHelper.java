@@ -1,8 +1,12 @@
 package io.smallrye.mutiny.vertx;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.function.Function;
 
 import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.vertx.impl.BatchingMultiReadStream;
+import io.vertx.core.Vertx;
 import io.vertx.core.streams.ReadStream;
 
 public class MultiHelper {
@@ -19,6 +23,32 @@ public class MultiHelper {
         return ReadStreamSubscriber.asReadStream(observable, Function.identity());
     }
 
+    /**
+     * Like {@link #toReadStream(Multi)} but requests at most {@code prefetch} items from the {@link Multi} at a time.
+     * More items are requested once less than {@code prefetch / 2} items are outstanding.
+     *
+     * @param observable the observable to adapt
+     * @param prefetch the number of items to request from the observable, must be positive
+     * @return the adapted stream
+     */
+    public static <T> ReadStream<T> toReadStream(Multi<T> observable, int prefetch) {
+        return ReadStreamSubscriber.asReadStream(observable, Function.identity(), prefetch);
+    }
+
+    /**
+     * Like {@link #toReadStream(Multi, int)} but more items are requested once less than {@code lowWatermark} items
+     * are outstanding.
+     *
+     * @param observable the observable to adapt
+     * @param prefetch the number of items to request from the observable, must be positive
+     * @param lowWatermark the number of outstanding items under which more items are requested, must be in
+     *        {@code [1, prefetch]}
+     * @return the adapted stream
+     */
+    public static <T> ReadStream<T> toReadStream(Multi<T> observable, int prefetch, int lowWatermark) {
+        return ReadStreamSubscriber.asReadStream(observable, Function.identity(), prefetch, lowWatermark);
+    }
+
     /**
      * Like {@link #toMulti(ReadStream)} but with a {@code mapping} function
      */
@@ -26,6 +56,24 @@ public class MultiHelper {
         return new MultiReadStream<>(stream, mapping);
     }
 
+    /**
+     * Adapts a Vert.x {@link ReadStream<T>} to an Mutiny {@link Multi} emitting the items of the stream in batches.
+     * <p>
+     * A batch is emitted once it contains {@code maxItems} items, {@code maxDelay} after its first item was received,
+     * or when the stream ends. Requesting {@code n} batches fetches {@code n * maxItems} items from the stream. After
+     * the stream is adapted to a Multi, the original stream handlers should not be used anymore as they will be used by
+     * the Multi adapter.
+     *
+     * @param vertx the vert.x instance used to schedule the delayed emissions
+     * @param stream the stream to adapt
+     * @param maxItems the maximum number of items per batch, must be positive
+     * @param maxDelay the maximum delay an item can be kept before its batch is emitted, must be positive
+     * @return the adapted multi
+     */
+    public static <T> Multi<List<T>> toMultiBatched(Vertx vertx, ReadStream<T> stream, int maxItems, Duration maxDelay) {
+        return new BatchingMultiReadStream<>(vertx, stream, maxItems, maxDelay);
+    }
+
     /**
      * Adapts a Vert.x {@link ReadStream<T>} to an Mutiny {@link Multi<T>}. After
      * the stream is adapted to a Multi, the original stream handlers should not be used anymore
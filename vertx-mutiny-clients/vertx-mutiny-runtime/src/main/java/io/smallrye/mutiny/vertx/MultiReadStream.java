@@ -9,6 +9,9 @@ import org.reactivestreams.Subscription;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.helpers.Subscriptions;
 import io.smallrye.mutiny.operators.AbstractMulti;
+import io.smallrye.mutiny.vertx.instrumentation.AdapterKind;
+import io.smallrye.mutiny.vertx.instrumentation.AdapterListener;
+import io.smallrye.mutiny.vertx.instrumentation.Instrumentation;
 import io.vertx.core.streams.ReadStream;
 
 public class MultiReadStream<T, U> extends AbstractMulti<U> implements Multi<U> {
@@ -45,16 +48,23 @@ public class MultiReadStream<T, U> extends AbstractMulti<U> implements Multi<U>
 
     @Override
     public void subscribe(Subscriber<? super U> downstream) {
+        AdapterListener listener = Instrumentation.listener(AdapterKind.MULTI_READ_STREAM, this);
         Subscription sub = new Subscription() {
             @Override
             public void request(long req) {
                 if (upstream.get() == this) {
+                    if (listener != null) {
+                        listener.onRequest(req);
+                    }
                     source.fetch(req);
                 }
             }
 
             @Override
             public void cancel() {
+                if (listener != null && upstream.get() == this) {
+                    listener.onCancel();
+                }
                 release();
             }
         };
@@ -67,13 +77,28 @@ public class MultiReadStream<T, U> extends AbstractMulti<U> implements Multi<U>
 
         source.endHandler(v -> {
             release();
+            if (listener != null) {
+                listener.onTerminate(null);
+            }
             downstream.onComplete();
         });
         source.exceptionHandler(err -> {
             release();
+            if (listener != null) {
+                listener.onTerminate(err);
+            }
             downstream.onError(err);
         });
-        source.handler(item -> downstream.onNext(transformation.apply(item)));
+        if (listener == null) {
+            source.handler(item -> downstream.onNext(transformation.apply(item)));
+        } else {
+            source.handler(item -> {
+                listener.onReceived();
+                U converted = transformation.apply(item);
+                listener.onEmitted();
+                downstream.onNext(converted);
+            });
+        }
 
         downstream.onSubscribe(sub);
     }
@@ -1,13 +1,18 @@
 package io.smallrye.mutiny.vertx;
 
+import java.time.Duration;
 import java.util.concurrent.Executor;
 import java.util.function.Function;
 
 import org.reactivestreams.Subscriber;
 
+import io.smallrye.mutiny.vertx.impl.BoundedBlockingExecutor;
+import io.smallrye.mutiny.vertx.impl.CoalescingWriteStream;
+import io.smallrye.mutiny.vertx.impl.ContextExecutor;
 import io.smallrye.mutiny.vertx.impl.WriteStreamSubscriberImpl;
 import io.vertx.core.Vertx;
 import io.vertx.core.WorkerExecutor;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.streams.WriteStream;
 
 public class MutinyHelper {
@@ -34,6 +39,32 @@ public class MutinyHelper {
 
     }
 
+    /**
+     * Create an executor for a {@link io.vertx.core.Context}, actions are executed on the event loop of this
+     * context.
+     * <p>
+     * Unlike {@link #executor(io.vertx.core.Context)}, actions submitted from the context itself are executed
+     * immediately when no other action is pending, and actions submitted in a burst are executed in a single event loop
+     * task. Actions are executed in submission order.
+     *
+     * @param context the context object
+     * @return the executor
+     */
+    public static Executor contextExecutor(io.vertx.core.Context context) {
+        return new ContextExecutor(context);
+    }
+
+    /**
+     * Like {@link #contextExecutor(io.vertx.core.Context)}, using the current context of the given
+     * {@link io.vertx.core.Vertx} object, or a new one if the caller is not running on a context.
+     *
+     * @param vertx the vert.x object
+     * @return the executor
+     */
+    public static Executor contextExecutor(io.vertx.core.Vertx vertx) {
+        return contextExecutor(vertx.getOrCreateContext());
+    }
+
     /**
      * Create an executor for a {@link io.vertx.core.Vertx} object, actions can be blocking, they are not executed
      * on Vert.x event loop.
@@ -79,6 +110,46 @@ public class MutinyHelper {
         }, null);
     }
 
+    /**
+     * Create a bounded and metered executor for a {@link io.vertx.core.Vertx} object, actions can be blocking, they are
+     * executed on the Vert.x worker pool without ordering guarantees.
+     * <p>
+     * Once {@code maxPending} actions are queued or running, new actions are rejected with a
+     * {@link java.util.concurrent.RejectedExecutionException}.
+     *
+     * @param vertx the vert.x object
+     * @param maxPending the maximum number of pending actions, must be positive
+     * @return the executor
+     */
+    public static MeteredExecutor boundedBlockingExecutor(Vertx vertx, int maxPending) {
+        return BoundedBlockingExecutor.onWorkerPool(vertx, maxPending);
+    }
+
+    /**
+     * Like {@link #boundedBlockingExecutor(Vertx, int)}, except actions are executed on the threads of the given
+     * {@link io.vertx.core.WorkerExecutor}.
+     *
+     * @param worker the worker executor object
+     * @param maxPending the maximum number of pending actions, must be positive
+     * @return the executor
+     */
+    public static MeteredExecutor boundedBlockingExecutor(WorkerExecutor worker, int maxPending) {
+        return BoundedBlockingExecutor.onWorkerPool(worker, maxPending);
+    }
+
+    /**
+     * Like {@link #boundedBlockingExecutor(Vertx, int)}, except each action is executed on a new virtual thread.
+     * <p>
+     * Virtual threads require a JVM supporting them (Java 21+).
+     *
+     * @param maxPending the maximum number of pending actions, must be positive
+     * @return the executor
+     * @throws UnsupportedOperationException if the JVM does not support virtual threads
+     */
+    public static MeteredExecutor virtualThreadExecutor(int maxPending) {
+        return BoundedBlockingExecutor.onVirtualThreads(maxPending);
+    }
+
     /**
      * Unwrap the type used in Mutiny.
      *
@@ -114,4 +185,43 @@ public class MutinyHelper {
     public static <R, T> WriteStreamSubscriber<R> toSubscriber(WriteStream<T> stream, Function<R, T> mapping) {
         return new WriteStreamSubscriberImpl<>(stream, mapping);
     }
+
+    /**
+     * Adapts a Vert.x {@link WriteStream} of {@link Buffer buffers} to a Mutiny {@link Subscriber} coalescing the
+     * received buffers.
+     * <p>
+     * Instead of writing each item to the stream, the items are accumulated and written as a single buffer once
+     * {@code maxBytes} are accumulated, or {@code maxDelay} after the first pending item was received. Pending bytes are
+     * written before the stream is ended on completion. They are discarded on failure, of the upstream or of the stream.
+     * <p>
+     * After subscription, the original {@link WriteStream} handlers should not be used anymore as they will be used by the
+     * adapter.
+     *
+     * @param vertx the vert.x instance used to schedule the delayed writes
+     * @param stream the stream to adapt
+     * @param maxBytes the number of accumulated bytes triggering a write, must be positive
+     * @param maxDelay the maximum delay an item can be kept before being written, must be positive
+     * @return the adapted {@link Subscriber}
+     */
+    public static WriteStreamSubscriber<Buffer> toBufferingSubscriber(Vertx vertx, WriteStream<Buffer> stream,
+            int maxBytes, Duration maxDelay) {
+        return toBufferingSubscriber(vertx, stream, Function.identity(), maxBytes, maxDelay);
+    }
+
+    /**
+     * Like {@link #toBufferingSubscriber(Vertx, WriteStream, int, Duration)}, except the provided {@code mapping}
+     * function is applied to each item.
+     */
+    public static <R> WriteStreamSubscriber<R> toBufferingSubscriber(Vertx vertx, WriteStream<Buffer> stream,
+            Function<R, Buffer> mapping, int maxBytes, Duration maxDelay) {
+        CoalescingWriteStream coalescing = new CoalescingWriteStream(vertx, stream, maxBytes, maxDelay);
+        return new WriteStreamSubscriberImpl<R, Buffer>(coalescing, mapping) {
+            @Override
+            public void onError(Throwable failure) {
+                // The pending bytes must not be written after the failure
+                coalescing.discard();
+                super.onError(failure);
+            }
+        };
+    }
 }
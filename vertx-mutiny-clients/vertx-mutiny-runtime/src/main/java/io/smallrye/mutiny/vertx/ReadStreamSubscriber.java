@@ -1,156 +1,261 @@
 package io.smallrye.mutiny.vertx;
 
-import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 
+import io.smallrye.mutiny.helpers.ParameterValidation;
+import io.smallrye.mutiny.helpers.Subscriptions;
+import io.smallrye.mutiny.helpers.queues.SpscLinkedArrayQueue;
+import io.smallrye.mutiny.subscription.BackPressureFailure;
+import io.smallrye.mutiny.vertx.instrumentation.AdapterKind;
+import io.smallrye.mutiny.vertx.instrumentation.AdapterListener;
+import io.smallrye.mutiny.vertx.instrumentation.Instrumentation;
 import io.vertx.core.Handler;
 import io.vertx.core.streams.ReadStream;
 
+/**
+ * A {@link Subscriber} exposed as a Vert.x {@link ReadStream}.
+ * <p>
+ * Items received from the upstream are stored in a single-producer / single-consumer queue and drained to the
+ * {@link ReadStream} handlers without locking. At most {@code prefetch} items are requested from the upstream, and the
+ * subscriber requests more once the number of outstanding items drops below the {@code lowWatermark}.
+ * <p>
+ * When the consumer uses {@link #fetch(long)}, the fetched amounts are also requested from the upstream directly, so
+ * a consumer can ask for more than {@code prefetch} items in a single round trip. The queue only grows beyond
+ * {@code prefetch} items in this case.
+ *
+ * @param <R> the type of item received from the upstream
+ * @param <J> the type of item emitted by the stream
+ */
 public class ReadStreamSubscriber<R, J> implements Subscriber<R>, ReadStream<J> {
 
-    private static final Runnable NOOP_ACTION = () -> {
-    };
     private static final Throwable DONE_SENTINEL = new Throwable();
 
+    /**
+     * The default number of items requested from the upstream.
+     */
     public static final int BUFFER_SIZE = 16;
 
     public static <R, J> ReadStream<J> asReadStream(Publisher<R> multi, Function<R, J> adapter) {
-        ReadStreamSubscriber<R, J> actual = new ReadStreamSubscriber<>(adapter);
+        return asReadStream(multi, adapter, BUFFER_SIZE);
+    }
+
+    public static <R, J> ReadStream<J> asReadStream(Publisher<R> multi, Function<R, J> adapter, int prefetch) {
+        return asReadStream(multi, adapter, prefetch, defaultLowWatermark(prefetch));
+    }
+
+    public static <R, J> ReadStream<J> asReadStream(Publisher<R> multi, Function<R, J> adapter, int prefetch,
+            int lowWatermark) {
+        ReadStreamSubscriber<R, J> actual = new ReadStreamSubscriber<>(adapter, prefetch, lowWatermark);
         multi.subscribe(actual);
         return actual;
     }
 
+    private static int defaultLowWatermark(int prefetch) {
+        return Math.max(1, prefetch / 2);
+    }
+
     private final Function<R, J> adapter;
-    private Handler<Void> endHandler;
-    private Handler<Throwable> exceptionHandler;
-    private Handler<J> elementHandler;
-    private boolean paused = false;
-    private Throwable completed;
-    private ArrayDeque<R> pending = new ArrayDeque<>();
-    private int requested = 0;
-    private Subscription subscription;
+    private final int prefetch;
+    private final int lowWatermark;
+    private final Queue<R> pending;
+    private final AtomicInteger wip = new AtomicInteger();
+    private final AtomicLong demand = new AtomicLong(Long.MAX_VALUE);
+    // null when the instrumentation is disabled
+    private final AdapterListener listener;
+
+    private volatile Handler<Void> endHandler;
+    private volatile Handler<Throwable> exceptionHandler;
+    private volatile Handler<J> elementHandler;
+    private volatile Throwable completed;
+    private volatile Subscription subscription;
+    // Written from the drain loop only, read from onNext to detect upstream overflows
+    private volatile long totalRequested = 0;
+
+    // Only accessed from onNext
+    private long received = 0;
+
+    // Only accessed from the drain loop
+    private long requested = 0;
+    private boolean terminated = false;
 
     public ReadStreamSubscriber(Function<R, J> adapter) {
-        this.adapter = adapter;
+        this(adapter, BUFFER_SIZE);
+    }
+
+    public ReadStreamSubscriber(Function<R, J> adapter, int prefetch) {
+        this(adapter, prefetch, defaultLowWatermark(prefetch));
+    }
+
+    /**
+     * Creates a new {@link ReadStreamSubscriber}.
+     *
+     * @param adapter the function applied to each item before being passed to the element handler
+     * @param prefetch the maximum number of items requested from the upstream and not yet delivered, must be positive
+     * @param lowWatermark the number of outstanding items under which the subscriber requests more items from the
+     *        upstream, must be in {@code [1, prefetch]}
+     */
+    public ReadStreamSubscriber(Function<R, J> adapter, int prefetch, int lowWatermark) {
+        this.adapter = ParameterValidation.nonNull(adapter, "adapter");
+        this.prefetch = ParameterValidation.positive(prefetch, "prefetch");
+        this.lowWatermark = ParameterValidation.positive(lowWatermark, "lowWatermark");
+        if (lowWatermark > prefetch) {
+            throw new IllegalArgumentException("`lowWatermark` must be less than or equal to `prefetch`");
+        }
+        this.pending = new SpscLinkedArrayQueue<>(prefetch);
+        this.listener = Instrumentation.listener(AdapterKind.READ_STREAM_SUBSCRIBER, this);
     }
 
     @Override
     public ReadStream<J> handler(Handler<J> handler) {
-        synchronized (this) {
-            elementHandler = handler;
-        }
-        checkStatus();
+        elementHandler = handler;
+        drain();
         return this;
     }
 
     @Override
     public ReadStream<J> pause() {
-        synchronized (this) {
-            paused = true;
+        demand.set(0L);
+        if (listener != null) {
+            listener.onPause();
         }
         return this;
     }
 
     @Override
     public ReadStream<J> fetch(long amount) {
-        throw new UnsupportedOperationException("not implemented");
+        ParameterValidation.positiveOrZero(amount, "amount");
+        if (amount > 0) {
+            Subscriptions.add(demand, amount);
+            drain();
+        }
+        return this;
     }
 
     @Override
     public ReadStream<J> resume() {
-        synchronized (this) {
-            paused = false;
+        demand.set(Long.MAX_VALUE);
+        if (listener != null) {
+            listener.onResume();
         }
-        checkStatus();
+        drain();
         return this;
     }
 
     @Override
     public void onSubscribe(Subscription s) {
-        synchronized (this) {
-            subscription = s;
-        }
-        checkStatus();
+        subscription = s;
+        drain();
     }
 
-    private void checkStatus() {
-        Runnable action = NOOP_ACTION;
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
         while (true) {
-            J adapted;
-            Handler<J> handler;
-            synchronized (this) {
-                if (!paused && (handler = elementHandler) != null && pending.size() > 0) {
-                    requested--;
-                    R item = pending.poll();
-                    adapted = adapter.apply(item);
-                } else {
-                    if (completed != null) {
-                        if (pending.isEmpty()) {
-                            Handler<Throwable> onError;
-                            Throwable result;
-                            if (completed != DONE_SENTINEL) {
-                                onError = exceptionHandler;
-                                result = completed;
-                                exceptionHandler = null;
-                            } else {
-                                onError = null;
-                                result = null;
-                            }
-                            Handler<Void> onCompleted = endHandler;
-                            endHandler = null;
-                            action = () -> {
-                                try {
-                                    if (onError != null) {
-                                        onError.handle(result);
-                                    }
-                                } finally {
-                                    if (onCompleted != null) {
-                                        onCompleted.handle(null);
-                                    }
-                                }
-                            };
+            Handler<J> handler = elementHandler;
+            R item = null;
+            if (handler != null && demand.get() > 0L) {
+                item = pending.poll();
+            }
+            if (item != null) {
+                requested--;
+                consumed();
+                if (listener != null) {
+                    listener.onEmitted();
+                }
+                handler.handle(adapter.apply(item));
+                continue;
+            }
+
+            Throwable done = completed;
+            if (done != null) {
+                if (!terminated && pending.isEmpty()) {
+                    terminated = true;
+                    Handler<Throwable> onError = null;
+                    if (done != DONE_SENTINEL) {
+                        onError = exceptionHandler;
+                        exceptionHandler = null;
+                    }
+                    Handler<Void> onCompleted = endHandler;
+                    endHandler = null;
+                    if (listener != null) {
+                        listener.onTerminate(done == DONE_SENTINEL ? null : done);
+                    }
+                    try {
+                        if (onError != null) {
+                            onError.handle(done);
+                        }
+                    } finally {
+                        if (onCompleted != null) {
+                            onCompleted.handle(null);
                         }
-                    } else if (elementHandler != null && requested < BUFFER_SIZE / 2) {
-                        int request = BUFFER_SIZE - requested;
-                        action = () -> subscription.request(request);
-                        requested = BUFFER_SIZE;
                     }
-                    break;
                 }
+            } else {
+                Subscription s = subscription;
+                if (s != null && handler != null) {
+                    long target = requested < lowWatermark ? prefetch : requested;
+                    long fetched = demand.get();
+                    if (fetched != Long.MAX_VALUE && fetched > target) {
+                        target = fetched;
+                    }
+                    if (target > requested) {
+                        long request = target - requested;
+                        requested = target;
+                        totalRequested = Subscriptions.add(totalRequested, request);
+                        if (listener != null) {
+                            listener.onRequest(request);
+                        }
+                        s.request(request);
+                        // The upstream may have emitted synchronously
+                        continue;
+                    }
+                }
+            }
+
+            missed = wip.addAndGet(-missed);
+            if (missed == 0) {
+                break;
+            }
+        }
+    }
+
+    private void consumed() {
+        while (true) {
+            long current = demand.get();
+            if (current == Long.MAX_VALUE || current == 0L) {
+                return;
+            }
+            if (demand.compareAndSet(current, current - 1)) {
+                return;
             }
-            handler.handle(adapted);
         }
-        action.run();
     }
 
     @Override
     public ReadStream<J> endHandler(Handler<Void> handler) {
-        synchronized (this) {
-            if (completed == null || pending.size() > 0) {
-                endHandler = handler;
-            } else {
-                if (handler != null) {
-                    throw new IllegalStateException();
-                }
-            }
+        if (completed == null || !pending.isEmpty()) {
+            endHandler = handler;
+        } else if (handler != null) {
+            throw new IllegalStateException();
         }
         return this;
     }
 
     @Override
     public ReadStream<J> exceptionHandler(Handler<Throwable> handler) {
-        synchronized (this) {
-            if (completed == null || pending.size() > 0) {
-                exceptionHandler = handler;
-            } else {
-                if (handler != null) {
-                    throw new IllegalStateException();
-                }
-            }
+        if (completed == null || !pending.isEmpty()) {
+            exceptionHandler = handler;
+        } else if (handler != null) {
+            throw new IllegalStateException();
         }
         return this;
     }
@@ -162,20 +267,30 @@ public class ReadStreamSubscriber<R, J> implements Subscriber<R>, ReadStream<J>
 
     @Override
     public void onError(Throwable e) {
-        synchronized (this) {
-            if (completed != null) {
-                return;
-            }
-            completed = e;
+        if (completed != null) {
+            return;
         }
-        checkStatus();
+        completed = e;
+        drain();
     }
 
     @Override
     public void onNext(R item) {
-        synchronized (this) {
-            pending.add(item);
+        if (completed != null) {
+            return;
+        }
+        if (++received > totalRequested) {
+            Subscription s = subscription;
+            if (s != null) {
+                s.cancel();
+            }
+            onError(new BackPressureFailure("The upstream emitted more items than requested"));
+            return;
+        }
+        pending.offer(item);
+        if (listener != null) {
+            listener.onReceived();
         }
-        checkStatus();
+        drain();
     }
 }
@@ -8,12 +8,52 @@ public class TypeArg<T> {
 
     private static final TypeArg UNKNOWN = new TypeArg<>(Function.identity(), Function.identity());
 
+    /**
+     * Holds the type arg of each class, so the reflective lookup happens at most once per class.
+     * Unlike a map, the holders do not prevent the classes from being unloaded.
+     */
+    private static final ClassValue<Holder> CACHE = new ClassValue<Holder>() {
+        @Override
+        protected Holder computeValue(Class<?> type) {
+            return new Holder();
+        }
+    };
+
     public static <U> TypeArg<U> of(Class<U> type) {
+        Holder holder = CACHE.get(type);
+        TypeArg<?> typeArg = holder.typeArg;
+        if (typeArg == null) {
+            typeArg = lookup(type);
+            // Not cached when null, the class is being initialized and its type arg is not set yet
+            if (typeArg != null) {
+                holder.typeArg = typeArg;
+            }
+        }
+        return (TypeArg<U>) typeArg;
+    }
+
+    /**
+     * Registers the type arg of a generated class, avoiding the reflective lookup in {@link #of(Class)}.
+     * <p>
+     * This method is called by the generated classes when they are initialized. It replaces the type arg looked up
+     * before, if any.
+     *
+     * @param type the generated class
+     * @param typeArg the type arg
+     * @param <U> the type
+     * @return the given type arg
+     */
+    public static <U> TypeArg<U> register(Class<U> type, TypeArg<U> typeArg) {
+        CACHE.get(type).typeArg = typeArg;
+        return typeArg;
+    }
+
+    private static TypeArg<?> lookup(Class<?> type) {
         MutinyGen gen = type.getAnnotation(MutinyGen.class);
         if (gen != null) {
             try {
                 Field field = type.getField("__TYPE_ARG");
-                return (TypeArg<U>) field.get(null);
+                return (TypeArg<?>) field.get(null);
             } catch (Exception ignore) {
             }
         }
@@ -39,4 +79,9 @@ public class TypeArg<T> {
     public <X> X unwrap(T o) {
         return o != null ? (X) unwrap.apply(o) : null;
     }
+
+    private static final class Holder {
+
+        volatile TypeArg<?> typeArg;
+    }
 }
@@ -4,6 +4,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.ParameterValidation;
 import io.smallrye.mutiny.subscription.UniSubscriber;
 import io.smallrye.mutiny.subscription.UniSubscription;
 import io.vertx.core.AsyncResult;
@@ -35,6 +36,21 @@ public class UniHelper {
         return AsyncResultUni.toUni(handler);
     }
 
+    /**
+     * Returns a {@link Uni} emitting the outcome of the given Vert.x {@link Future}.
+     * <p>
+     * Each subscriber registers its completion handler directly on the future, so no callback adaptation is involved.
+     * Unlike {@link #toUni(Consumer)}, the asynchronous operation is not deferred to the subscription, it has already
+     * been triggered when the future is passed.
+     *
+     * @param future the future, must not be {@code null}
+     * @return the uni
+     */
+    public static <T> Uni<T> toUni(Future<T> future) {
+        ParameterValidation.nonNull(future, "future");
+        return AsyncResultUni.toUni(future::onComplete);
+    }
+
     /**
      * Adapts an Vert.x {@code Handler<AsyncResult<T>>} to an {@link io.smallrye.mutiny.subscription.UniSubscriber}.
      * <p>
@@ -0,0 +1,228 @@
+package io.smallrye.mutiny.vertx.impl;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.ParameterValidation;
+import io.smallrye.mutiny.helpers.Subscriptions;
+import io.smallrye.mutiny.operators.AbstractMulti;
+import io.vertx.core.Vertx;
+import io.vertx.core.streams.ReadStream;
+
+/**
+ * A {@link Multi} gathering the items of a Vert.x {@link ReadStream} into lists.
+ * <p>
+ * A batch is emitted once it contains {@code maxItems} items, or {@code maxDelay} after its first item was received,
+ * or when the stream ends. A request for {@code n} batches fetches {@code n * maxItems} items from the stream.
+ *
+ * @param <T> the type of item
+ */
+public class BatchingMultiReadStream<T> extends AbstractMulti<List<T>> implements Multi<List<T>> {
+
+    private static final long NO_TIMER = -1L;
+
+    private final Vertx vertx;
+    private final ReadStream<T> source;
+    private final int maxItems;
+    private final long maxDelayInMs;
+    private final AtomicReference<Subscription> upstream = new AtomicReference<>();
+
+    public BatchingMultiReadStream(Vertx vertx, ReadStream<T> source, int maxItems, Duration maxDelay) {
+        this.vertx = ParameterValidation.nonNull(vertx, "vertx");
+        this.source = ParameterValidation.nonNull(source, "source");
+        this.maxItems = ParameterValidation.positive(maxItems, "maxItems");
+        this.maxDelayInMs = Math.max(1L, ParameterValidation.validate(maxDelay, "maxDelay").toMillis());
+        source.pause();
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super List<T>> downstream) {
+        BatchSubscription subscription = new BatchSubscription(downstream);
+        if (!upstream.compareAndSet(null, subscription)) {
+            Subscriptions.fail(downstream, new IllegalStateException("This processor allows only a single Subscriber"));
+            return;
+        }
+
+        source.pause();
+
+        source.endHandler(v -> subscription.onEnd(null));
+        source.exceptionHandler(subscription::onEnd);
+        source.handler(subscription::onItem);
+
+        downstream.onSubscribe(subscription);
+    }
+
+    private void release(Subscription subscription) {
+        if (upstream.compareAndSet(subscription, null)) {
+            try {
+                source.exceptionHandler(null);
+                source.endHandler(null);
+                source.handler(null);
+            } catch (Exception ignore) {
+            } finally {
+                try {
+                    source.resume();
+                } catch (Exception ignore) {
+                }
+            }
+        }
+    }
+
+    private class BatchSubscription implements Subscription {
+
+        private final Subscriber<? super List<T>> downstream;
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+
+        // Guarded by this
+        private final Deque<List<T>> ready = new ArrayDeque<>();
+        private List<T> current;
+        private long timer = NO_TIMER;
+        private boolean done;
+        private Throwable failure;
+
+        private volatile boolean cancelled;
+
+        BatchSubscription(Subscriber<? super List<T>> downstream) {
+            this.downstream = downstream;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                cancel();
+                downstream.onError(Subscriptions.getInvalidRequestException());
+                return;
+            }
+            Subscriptions.add(requested, n);
+            if (upstream.get() == this) {
+                source.fetch(Subscriptions.multiply(n, maxItems));
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            synchronized (this) {
+                cancelTimer();
+                ready.clear();
+                current = null;
+            }
+            release(this);
+        }
+
+        void onItem(T item) {
+            synchronized (this) {
+                if (done || cancelled) {
+                    return;
+                }
+                if (current == null) {
+                    current = new ArrayList<>(maxItems);
+                    timer = vertx.setTimer(maxDelayInMs, this::onTimeout);
+                }
+                current.add(item);
+                if (current.size() >= maxItems) {
+                    cancelTimer();
+                    ready.offer(current);
+                    current = null;
+                }
+            }
+            drain();
+        }
+
+        void onEnd(Throwable err) {
+            synchronized (this) {
+                if (done) {
+                    return;
+                }
+                cancelTimer();
+                if (current != null) {
+                    ready.offer(current);
+                    current = null;
+                }
+                failure = err;
+                done = true;
+            }
+            release(this);
+            drain();
+        }
+
+        private void onTimeout(long id) {
+            synchronized (this) {
+                if (timer != id) {
+                    return;
+                }
+                timer = NO_TIMER;
+                if (current != null) {
+                    ready.offer(current);
+                    current = null;
+                }
+            }
+            drain();
+        }
+
+        private void cancelTimer() {
+            if (timer != NO_TIMER) {
+                vertx.cancelTimer(timer);
+                timer = NO_TIMER;
+            }
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            for (;;) {
+                long r = requested.get();
+                long e = 0L;
+                for (;;) {
+                    if (cancelled) {
+                        return;
+                    }
+                    List<T> batch;
+                    boolean terminated;
+                    Throwable err;
+                    synchronized (this) {
+                        err = failure;
+                        // Failures are propagated without waiting for the pending batches to be requested
+                        terminated = done && (err != null || ready.isEmpty());
+                        batch = !terminated && e != r ? ready.poll() : null;
+                    }
+                    if (terminated) {
+                        cancelled = true;
+                        if (err != null) {
+                            downstream.onError(err);
+                        } else {
+                            downstream.onComplete();
+                        }
+                        return;
+                    }
+                    if (batch == null) {
+                        break;
+                    }
+                    downstream.onNext(batch);
+                    e++;
+                }
+                if (e != 0L) {
+                    Subscriptions.produced(requested, e);
+                }
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) {
+                    return;
+                }
+            }
+        }
+    }
+}
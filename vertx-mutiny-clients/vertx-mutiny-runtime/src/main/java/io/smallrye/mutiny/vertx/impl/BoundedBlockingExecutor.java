@@ -0,0 +1,191 @@
+package io.smallrye.mutiny.vertx.impl;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import io.smallrye.mutiny.helpers.ParameterValidation;
+import io.smallrye.mutiny.vertx.MeteredExecutor;
+import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
+
+/**
+ * A {@link MeteredExecutor} submitting the actions to a backing {@link Executor}, such as a Vert.x worker pool or a
+ * virtual thread per task executor.
+ */
+public class BoundedBlockingExecutor implements MeteredExecutor {
+
+    private final Executor backing;
+    private final int maxPending;
+
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder totalWaitTime = new LongAdder();
+    private final AtomicLong maxWaitTime = new AtomicLong();
+    private final LongAdder totalExecutionTime = new LongAdder();
+    private final AtomicLong maxExecutionTime = new AtomicLong();
+
+    private volatile Consumer<? super Throwable> failureCallback;
+
+    public BoundedBlockingExecutor(Executor backing, int maxPending) {
+        this.backing = ParameterValidation.nonNull(backing, "backing");
+        this.maxPending = ParameterValidation.positive(maxPending, "maxPending");
+    }
+
+    /**
+     * Creates an executor running the actions on the worker pool of the given {@link Vertx} instance. Actions are not
+     * ordered.
+     */
+    public static BoundedBlockingExecutor onWorkerPool(Vertx vertx, int maxPending) {
+        ParameterValidation.nonNull(vertx, "vertx");
+        return new BoundedBlockingExecutor(command -> vertx.executeBlocking(fut -> {
+            command.run();
+            fut.complete();
+        }, false, null), maxPending);
+    }
+
+    /**
+     * Creates an executor running the actions on the given {@link WorkerExecutor}. Actions are not ordered.
+     */
+    public static BoundedBlockingExecutor onWorkerPool(WorkerExecutor worker, int maxPending) {
+        ParameterValidation.nonNull(worker, "worker");
+        return new BoundedBlockingExecutor(command -> worker.executeBlocking(fut -> {
+            command.run();
+            fut.complete();
+        }, false, null), maxPending);
+    }
+
+    /**
+     * Creates an executor running each action on a new virtual thread.
+     *
+     * @throws UnsupportedOperationException if the running JVM does not support virtual threads
+     */
+    public static BoundedBlockingExecutor onVirtualThreads(int maxPending) {
+        return new BoundedBlockingExecutor(newVirtualThreadPerTaskExecutor(), maxPending);
+    }
+
+    private static Executor newVirtualThreadPerTaskExecutor() {
+        // Looked up reflectively, the runtime is compiled for Java 8
+        try {
+            Method method = java.util.concurrent.Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (Executor) method.invoke(null);
+        } catch (NoSuchMethodException e) {
+            throw new UnsupportedOperationException("Virtual threads are not supported by this JVM", e);
+        } catch (ReflectiveOperationException e) {
+            throw new UnsupportedOperationException("Unable to create a virtual thread executor", e);
+        }
+    }
+
+    @Override
+    public MeteredExecutor onFailure(Consumer<? super Throwable> callback) {
+        this.failureCallback = callback;
+        return this;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        ParameterValidation.nonNull(command, "command");
+        for (;;) {
+            int current = pending.get();
+            if (current >= maxPending) {
+                rejected.increment();
+                throw new RejectedExecutionException(
+                        "Unable to execute the action, the maximum number of pending actions (" + maxPending
+                                + ") has been reached");
+            }
+            if (pending.compareAndSet(current, current + 1)) {
+                break;
+            }
+        }
+        long submitted = System.nanoTime();
+        try {
+            backing.execute(() -> run(command, submitted));
+        } catch (RuntimeException e) {
+            pending.decrementAndGet();
+            rejected.increment();
+            throw e;
+        }
+    }
+
+    private void run(Runnable command, long submitted) {
+        long start = System.nanoTime();
+        record(totalWaitTime, maxWaitTime, start - submitted);
+        active.incrementAndGet();
+        try {
+            command.run();
+        } catch (Throwable failure) {
+            failed.increment();
+            Consumer<? super Throwable> callback = failureCallback;
+            if (callback != null) {
+                callback.accept(failure);
+            }
+        } finally {
+            record(totalExecutionTime, maxExecutionTime, System.nanoTime() - start);
+            completed.increment();
+            active.decrementAndGet();
+            pending.decrementAndGet();
+        }
+    }
+
+    private static void record(LongAdder total, AtomicLong max, long duration) {
+        total.add(duration);
+        max.accumulateAndGet(duration, Math::max);
+    }
+
+    @Override
+    public int getMaxPending() {
+        return maxPending;
+    }
+
+    @Override
+    public int getQueueSize() {
+        return Math.max(0, pending.get() - active.get());
+    }
+
+    @Override
+    public int getActiveCount() {
+        return active.get();
+    }
+
+    @Override
+    public long getCompletedCount() {
+        return completed.sum();
+    }
+
+    @Override
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    @Override
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    @Override
+    public long getTotalWaitTime() {
+        return totalWaitTime.sum();
+    }
+
+    @Override
+    public long getMaxWaitTime() {
+        return maxWaitTime.get();
+    }
+
+    @Override
+    public long getTotalExecutionTime() {
+        return totalExecutionTime.sum();
+    }
+
+    @Override
+    public long getMaxExecutionTime() {
+        return maxExecutionTime.get();
+    }
+}
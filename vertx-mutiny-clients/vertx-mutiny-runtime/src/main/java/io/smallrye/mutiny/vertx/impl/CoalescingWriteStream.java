@@ -0,0 +1,139 @@
+package io.smallrye.mutiny.vertx.impl;
+
+import java.time.Duration;
+
+import io.smallrye.mutiny.helpers.ParameterValidation;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.WriteStream;
+
+/**
+ * A {@link WriteStream} accumulating the written {@link Buffer buffers} and writing them to the delegate stream as a
+ * single buffer.
+ * <p>
+ * The accumulated bytes are written when they reach {@code maxBytes}, when {@code maxDelay} has elapsed since the first
+ * accumulated buffer, or when the stream is ended. Back-pressure and failures are delegated to the underlying stream.
+ * The accumulated bytes are discarded when the underlying stream fails, or with {@link #discard()}.
+ */
+public class CoalescingWriteStream implements WriteStream<Buffer> {
+
+    private static final long NO_TIMER = -1L;
+
+    private final Vertx vertx;
+    private final WriteStream<Buffer> delegate;
+    private final int maxBytes;
+    private final long maxDelayInMs;
+
+    private Buffer pending;
+    private long timer = NO_TIMER;
+
+    public CoalescingWriteStream(Vertx vertx, WriteStream<Buffer> delegate, int maxBytes, Duration maxDelay) {
+        this.vertx = ParameterValidation.nonNull(vertx, "vertx");
+        this.delegate = ParameterValidation.nonNull(delegate, "delegate");
+        this.maxBytes = ParameterValidation.positive(maxBytes, "maxBytes");
+        this.maxDelayInMs = Math.max(1L, ParameterValidation.validate(maxDelay, "maxDelay").toMillis());
+    }
+
+    @Override
+    public WriteStream<Buffer> exceptionHandler(Handler<Throwable> handler) {
+        if (handler == null) {
+            delegate.exceptionHandler(null);
+        } else {
+            delegate.exceptionHandler(failure -> {
+                discard();
+                handler.handle(failure);
+            });
+        }
+        return this;
+    }
+
+    @Override
+    public synchronized WriteStream<Buffer> write(Buffer data) {
+        if (pending == null && data.length() >= maxBytes) {
+            // Nothing to coalesce with
+            delegate.write(data);
+            return this;
+        }
+        if (pending == null) {
+            pending = Buffer.buffer(Math.max(maxBytes, data.length()));
+            timer = vertx.setTimer(maxDelayInMs, id -> onTimeout(id));
+        }
+        pending.appendBuffer(data);
+        if (pending.length() >= maxBytes) {
+            flush();
+        }
+        return this;
+    }
+
+    @Override
+    public synchronized WriteStream<Buffer> write(Buffer data, Handler<AsyncResult<Void>> handler) {
+        flush();
+        delegate.write(data, handler);
+        return this;
+    }
+
+    @Override
+    public synchronized void end() {
+        flush();
+        delegate.end();
+    }
+
+    @Override
+    public synchronized void end(Handler<AsyncResult<Void>> handler) {
+        flush();
+        delegate.end(handler);
+    }
+
+    @Override
+    public WriteStream<Buffer> setWriteQueueMaxSize(int maxSize) {
+        delegate.setWriteQueueMaxSize(maxSize);
+        return this;
+    }
+
+    @Override
+    public boolean writeQueueFull() {
+        return delegate.writeQueueFull();
+    }
+
+    @Override
+    public WriteStream<Buffer> drainHandler(Handler<Void> handler) {
+        delegate.drainHandler(handler);
+        return this;
+    }
+
+    private synchronized void onTimeout(long id) {
+        if (timer == id) {
+            timer = NO_TIMER;
+            flush();
+        }
+    }
+
+    /**
+     * Writes the accumulated bytes, if any, to the underlying stream.
+     */
+    public synchronized void flush() {
+        cancelTimer();
+        Buffer buffer = pending;
+        pending = null;
+        if (buffer != null && buffer.length() > 0) {
+            delegate.write(buffer);
+        }
+    }
+
+    /**
+     * Drops the accumulated bytes, if any, without writing them to the underlying stream.
+     */
+    public synchronized void discard() {
+        cancelTimer();
+        pending = null;
+    }
+
+    private void cancelTimer() {
+        if (timer != NO_TIMER) {
+            vertx.cancelTimer(timer);
+            timer = NO_TIMER;
+        }
+    }
+}
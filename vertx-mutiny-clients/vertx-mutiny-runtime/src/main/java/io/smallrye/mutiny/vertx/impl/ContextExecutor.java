@@ -0,0 +1,83 @@
+package io.smallrye.mutiny.vertx.impl;
+
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.smallrye.mutiny.helpers.ParameterValidation;
+import io.smallrye.mutiny.helpers.queues.MpscLinkedQueue;
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+
+/**
+ * An {@link Executor} running the submitted tasks on a given Vert.x {@link Context}.
+ * <p>
+ * When a task is submitted from the target context and no other task is pending, it is executed inline instead of
+ * being dispatched with {@link Context#runOnContext(Handler)}. Otherwise, the task is queued and the pending tasks are
+ * executed in a single context task, so tasks submitted in a burst only cost one dispatch. Tasks are executed in
+ * submission order.
+ */
+public class ContextExecutor implements Executor {
+
+    private final Context context;
+    private final Queue<Runnable> queue = new MpscLinkedQueue<>();
+    private final AtomicInteger wip = new AtomicInteger();
+    private final Handler<Void> drainTask = ignored -> drain(1);
+
+    public ContextExecutor(Context context) {
+        this.context = ParameterValidation.nonNull(context, "context");
+    }
+
+    /**
+     * @return the context on which the tasks are executed
+     */
+    public Context context() {
+        return context;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        ParameterValidation.nonNull(command, "command");
+        if (Vertx.currentContext() == context && wip.compareAndSet(0, 1)) {
+            // Already on the context and nothing is pending, no need to dispatch
+            run(command);
+            drain(1);
+            return;
+        }
+        queue.offer(command);
+        if (wip.getAndIncrement() == 0) {
+            context.runOnContext(drainTask);
+        }
+    }
+
+    private void drain(int missed) {
+        for (;;) {
+            Runnable task;
+            while ((task = queue.poll()) != null) {
+                run(task);
+            }
+            missed = wip.addAndGet(-missed);
+            if (missed == 0) {
+                return;
+            }
+        }
+    }
+
+    private void run(Runnable task) {
+        try {
+            task.run();
+        } catch (Throwable failure) {
+            Handler<Throwable> handler = context.exceptionHandler();
+            if (handler == null) {
+                handler = context.owner().exceptionHandler();
+            }
+            if (handler != null) {
+                handler.handle(failure);
+            } else {
+                Thread thread = Thread.currentThread();
+                thread.getUncaughtExceptionHandler().uncaughtException(thread, failure);
+            }
+        }
+    }
+}
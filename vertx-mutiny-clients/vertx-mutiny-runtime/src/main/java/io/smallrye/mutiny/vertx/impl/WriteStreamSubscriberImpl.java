@@ -11,26 +11,82 @@ import io.smallrye.mutiny.CompositeException;
 import io.smallrye.mutiny.helpers.ParameterValidation;
 import io.smallrye.mutiny.helpers.Subscriptions;
 import io.smallrye.mutiny.vertx.WriteStreamSubscriber;
+import io.smallrye.mutiny.vertx.instrumentation.AdapterKind;
+import io.smallrye.mutiny.vertx.instrumentation.AdapterListener;
+import io.smallrye.mutiny.vertx.instrumentation.Instrumentation;
 import io.vertx.core.streams.WriteStream;
 
+/**
+ * A {@link WriteStreamSubscriber} adapting its demand to the speed of the {@link WriteStream}.
+ * <p>
+ * Items are requested by windows. The window doubles (up to {@code maxBatchSize}) every time a full window is written
+ * without the stream reporting {@link WriteStream#writeQueueFull()}, and is halved (down to {@code minBatchSize}) every
+ * time the write queue gets full. More items are requested as soon as less than half of the window is outstanding, or
+ * when the stream is drained.
+ */
 public class WriteStreamSubscriberImpl<I, O> implements WriteStreamSubscriber<I> {
 
-    private static final int BATCH_SIZE = 16;
+    public static final int DEFAULT_BATCH_SIZE = 16;
+    public static final int DEFAULT_MIN_BATCH_SIZE = 4;
+    public static final int DEFAULT_MAX_BATCH_SIZE = 1024;
 
     private final WriteStream<O> stream;
     private final Function<I, O> mapping;
+    private final int minBatchSize;
+    private final int maxBatchSize;
+    // null when the instrumentation is disabled
+    private final AdapterListener listener;
 
     private AtomicReference<Subscription> upstream = new AtomicReference<>();
     private AtomicBoolean done = new AtomicBoolean();
     private int outstanding;
+    private int window;
+    private int writtenInWindow;
+    private boolean saturated;
+    private long refillCount;
+    private long queueFullCount;
 
     private Consumer<? super Throwable> onFailure;
     private Runnable onCompletion;
     private Consumer<? super Throwable> onStreamFailure;
 
     public WriteStreamSubscriberImpl(WriteStream<O> stream, Function<I, O> mapping) {
+        this(stream, mapping, DEFAULT_BATCH_SIZE, DEFAULT_MIN_BATCH_SIZE, DEFAULT_MAX_BATCH_SIZE);
+    }
+
+    public WriteStreamSubscriberImpl(WriteStream<O> stream, Function<I, O> mapping, int initialBatchSize,
+            int minBatchSize, int maxBatchSize) {
         this.stream = ParameterValidation.nonNull(stream, "writeStream");
         this.mapping = ParameterValidation.nonNull(mapping, "mapping");
+        this.minBatchSize = ParameterValidation.positive(minBatchSize, "minBatchSize");
+        this.maxBatchSize = ParameterValidation.positive(maxBatchSize, "maxBatchSize");
+        if (minBatchSize > initialBatchSize || initialBatchSize > maxBatchSize) {
+            throw new IllegalArgumentException(
+                    "`initialBatchSize` must be between `minBatchSize` and `maxBatchSize`");
+        }
+        this.window = initialBatchSize;
+        this.listener = Instrumentation.listener(AdapterKind.WRITE_STREAM_SUBSCRIBER, this);
+    }
+
+    /**
+     * @return the current number of items requested at once from the upstream
+     */
+    public synchronized int getWindow() {
+        return window;
+    }
+
+    /**
+     * @return the number of times items have been requested from the upstream
+     */
+    public synchronized long getRefillCount() {
+        return refillCount;
+    }
+
+    /**
+     * @return the number of times the write queue of the stream has been reported full
+     */
+    public synchronized long getQueueFullCount() {
+        return queueFullCount;
     }
 
     @Override
@@ -42,6 +98,9 @@ public class WriteStreamSubscriberImpl<I, O> implements WriteStreamSubscriber<I>
                     return;
                 }
                 cancel();
+                if (listener != null) {
+                    listener.onTerminate(t);
+                }
                 Consumer<? super Throwable> onFailureCallback;
                 synchronized (this) {
                     onFailureCallback = this.onStreamFailure;
@@ -54,7 +113,17 @@ public class WriteStreamSubscriberImpl<I, O> implements WriteStreamSubscriber<I>
                     }
                 }
             });
-            stream.drainHandler(v -> requestMore());
+            stream.drainHandler(v -> {
+                boolean wasSaturated;
+                synchronized (this) {
+                    wasSaturated = saturated;
+                    saturated = false;
+                }
+                if (wasSaturated && listener != null) {
+                    listener.onResume();
+                }
+                requestMore();
+            });
             requestMore();
         } else {
             subscription.cancel();
@@ -82,11 +151,11 @@ public class WriteStreamSubscriberImpl<I, O> implements WriteStreamSubscriber<I>
             return;
         }
 
+        if (listener != null) {
+            listener.onReceived();
+        }
         try {
             stream.write(mapping.apply(item));
-            synchronized (this) {
-                outstanding--;
-            }
         } catch (Throwable t) {
             Throwable throwable;
             try {
@@ -99,7 +168,33 @@ public class WriteStreamSubscriberImpl<I, O> implements WriteStreamSubscriber<I>
             return;
         }
 
-        if (!stream.writeQueueFull()) {
+        if (listener != null) {
+            listener.onEmitted();
+        }
+
+        boolean full = stream.writeQueueFull();
+        boolean paused = false;
+        synchronized (this) {
+            outstanding--;
+            if (full) {
+                // Only shrink once until the stream is drained, it usually reports full for several items in a row
+                if (!saturated) {
+                    saturated = true;
+                    paused = true;
+                    window = Math.max(minBatchSize, window / 2);
+                    queueFullCount++;
+                }
+                writtenInWindow = 0;
+            } else if (++writtenInWindow >= window) {
+                window = Math.min(maxBatchSize, window * 2);
+                writtenInWindow = 0;
+            }
+        }
+
+        if (paused && listener != null) {
+            listener.onPause();
+        }
+        if (!full) {
             requestMore();
         }
     }
@@ -111,6 +206,9 @@ public class WriteStreamSubscriberImpl<I, O> implements WriteStreamSubscriber<I>
         }
 
         ParameterValidation.nonNullNpe(failure, "failure");
+        if (listener != null) {
+            listener.onTerminate(failure);
+        }
 
         Consumer<? super Throwable> c;
         synchronized (this) {
@@ -131,6 +229,9 @@ public class WriteStreamSubscriberImpl<I, O> implements WriteStreamSubscriber<I>
             return;
         }
 
+        if (listener != null) {
+            listener.onTerminate(null);
+        }
         Runnable completionCallback;
         synchronized (this) {
             completionCallback = onCompletion;
@@ -151,13 +252,22 @@ public class WriteStreamSubscriberImpl<I, O> implements WriteStreamSubscriber<I>
             return;
         }
 
+        int request;
         synchronized (this) {
-            if (done.get() || outstanding > 0) {
+            if (done.get() || outstanding > window / 2) {
                 return;
             }
-            outstanding = BATCH_SIZE;
+            request = window - outstanding;
+            if (request <= 0) {
+                return;
+            }
+            outstanding = window;
+            refillCount++;
+        }
+        if (listener != null) {
+            listener.onRequest(request);
         }
-        s.request(BATCH_SIZE);
+        s.request(request);
     }
 
     @Override
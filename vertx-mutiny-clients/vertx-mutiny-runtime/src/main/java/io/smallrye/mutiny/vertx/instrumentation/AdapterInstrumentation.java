@@ -0,0 +1,31 @@
+package io.smallrye.mutiny.vertx.instrumentation;
+
+import java.util.ServiceLoader;
+
+/**
+ * Service provider creating the {@link AdapterListener} of the runtime adapters.
+ * <p>
+ * Implementations are discovered with the {@link ServiceLoader} mechanism, by listing them in a
+ * {@code META-INF/services/io.smallrye.mutiny.vertx.instrumentation.AdapterInstrumentation} file. The first enabled
+ * implementation is used. See {@link Instrumentation}.
+ */
+public interface AdapterInstrumentation {
+
+    /**
+     * Indicates whether this implementation should be used. Called once, when the providers are loaded.
+     *
+     * @return {@code true} if the implementation is enabled, {@code true} by default
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * Creates the listener of a new adapter.
+     *
+     * @param kind the kind of adapter
+     * @param adapter the adapter, possibly not fully initialized, must not be retained
+     * @return the listener, {@code null} if the adapter must not be instrumented
+     */
+    AdapterListener newListener(AdapterKind kind, Object adapter);
+}
@@ -0,0 +1,30 @@
+package io.smallrye.mutiny.vertx.instrumentation;
+
+/**
+ * The kinds of adapters reporting to an {@link AdapterListener}.
+ */
+public enum AdapterKind {
+
+    /**
+     * A {@link io.smallrye.mutiny.vertx.ReadStreamSubscriber}, exposing a {@code Publisher} as a Vert.x
+     * {@code ReadStream}.
+     */
+    READ_STREAM_SUBSCRIBER,
+
+    /**
+     * A {@link io.smallrye.mutiny.vertx.WriteStreamSubscriber}, writing the items of a {@code Publisher} to a Vert.x
+     * {@code WriteStream}.
+     */
+    WRITE_STREAM_SUBSCRIBER,
+
+    /**
+     * A {@link io.smallrye.mutiny.vertx.MultiReadStream}, exposing a Vert.x {@code ReadStream} as a {@code Multi}.
+     */
+    MULTI_READ_STREAM,
+
+    /**
+     * A {@link io.smallrye.mutiny.vertx.AsyncResultUni}, exposing a callback-based asynchronous method as a
+     * {@code Uni}. A listener is created for each subscription.
+     */
+    ASYNC_RESULT_UNI
+}
@@ -0,0 +1,71 @@
+package io.smallrye.mutiny.vertx.instrumentation;
+
+/**
+ * Receives the signals of a single adapter instance.
+ * <p>
+ * From these signals, an implementation can derive:
+ * <ul>
+ * <li>the buffer occupancy: {@code received - emitted},</li>
+ * <li>the outstanding demand: {@code requested - received},</li>
+ * <li>the throughput, from the number of emitted items,</li>
+ * <li>the time spent paused, between {@link #onPause()} and {@link #onResume()}.</li>
+ * </ul>
+ * <p>
+ * Methods are called on the hot path of the adapters, possibly from different threads, and must not block nor throw.
+ */
+public interface AdapterListener {
+
+    /**
+     * Called when the adapter requests {@code n} items from its upstream.
+     *
+     * @param n the number of requested items
+     */
+    default void onRequest(long n) {
+        // Do nothing by default
+    }
+
+    /**
+     * Called when the adapter receives an item from its upstream.
+     */
+    default void onReceived() {
+        // Do nothing by default
+    }
+
+    /**
+     * Called when the adapter passes an item to its downstream.
+     */
+    default void onEmitted() {
+        // Do nothing by default
+    }
+
+    /**
+     * Called when the adapter stops flowing, because the downstream paused it or because the write queue of the
+     * downstream is full.
+     */
+    default void onPause() {
+        // Do nothing by default
+    }
+
+    /**
+     * Called when the adapter flows again after {@link #onPause()}.
+     */
+    default void onResume() {
+        // Do nothing by default
+    }
+
+    /**
+     * Called when the adapter terminates.
+     *
+     * @param failure the failure, {@code null} if the adapter completed successfully
+     */
+    default void onTerminate(Throwable failure) {
+        // Do nothing by default
+    }
+
+    /**
+     * Called when the downstream cancels the adapter.
+     */
+    default void onCancel() {
+        // Do nothing by default
+    }
+}
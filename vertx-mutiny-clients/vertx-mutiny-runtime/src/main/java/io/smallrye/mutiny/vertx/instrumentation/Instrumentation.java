@@ -0,0 +1,63 @@
+package io.smallrye.mutiny.vertx.instrumentation;
+
+import java.util.Iterator;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * Entry point of the adapter instrumentation.
+ * <p>
+ * The {@link AdapterInstrumentation} providers are loaded once, when this class is initialized. When no provider is
+ * enabled, {@link #listener(AdapterKind, Object)} returns {@code null} and the adapters skip the instrumentation
+ * entirely, so it costs a {@code null} check per signal.
+ */
+public final class Instrumentation {
+
+    private static final AdapterInstrumentation PROVIDER = load();
+
+    /**
+     * Whether an {@link AdapterInstrumentation} is enabled.
+     */
+    public static final boolean ENABLED = PROVIDER != null;
+
+    private Instrumentation() {
+        // Avoid direct instantiation
+    }
+
+    /**
+     * Creates the listener of a new adapter.
+     *
+     * @param kind the kind of adapter
+     * @param adapter the adapter
+     * @return the listener, {@code null} if the instrumentation is disabled or if the adapter is not instrumented
+     */
+    public static AdapterListener listener(AdapterKind kind, Object adapter) {
+        if (!ENABLED) {
+            return null;
+        }
+        try {
+            return PROVIDER.newListener(kind, adapter);
+        } catch (RuntimeException e) {
+            // A broken provider must not break the adapters
+            return null;
+        }
+    }
+
+    private static AdapterInstrumentation load() {
+        ClassLoader loader = AdapterInstrumentation.class.getClassLoader();
+        Iterator<AdapterInstrumentation> iterator = ServiceLoader.load(AdapterInstrumentation.class, loader).iterator();
+        while (true) {
+            try {
+                if (!iterator.hasNext()) {
+                    return null;
+                }
+                AdapterInstrumentation provider = iterator.next();
+                if (provider.isEnabled()) {
+                    return provider;
+                }
+            } catch (ServiceConfigurationError | LinkageError | RuntimeException e) {
+                // Ignore the providers that cannot be loaded
+            }
+        }
+    }
+}
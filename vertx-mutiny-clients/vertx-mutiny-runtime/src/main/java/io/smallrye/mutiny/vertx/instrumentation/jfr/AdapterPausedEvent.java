@@ -0,0 +1,26 @@
+package io.smallrye.mutiny.vertx.instrumentation.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("io.smallrye.mutiny.vertx.AdapterPaused")
+@Label("Adapter Paused")
+@Description("An adapter stopped flowing because it was paused or because the write queue was full")
+@Category({ "SmallRye Mutiny", "Vert.x" })
+@StackTrace(false)
+class AdapterPausedEvent extends jdk.jfr.Event {
+
+    @Label("Kind")
+    String kind;
+
+    @Label("Adapter")
+    String adapter;
+
+    @Label("Paused Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long pausedTime;
+}
@@ -0,0 +1,56 @@
+package io.smallrye.mutiny.vertx.instrumentation.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Period;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("io.smallrye.mutiny.vertx.AdapterStatistics")
+@Label("Adapter Statistics")
+@Description("Periodic statistics of a live stream adapter")
+@Category({ "SmallRye Mutiny", "Vert.x" })
+@Period("1 s")
+@StackTrace(false)
+class AdapterStatisticsEvent extends jdk.jfr.Event {
+
+    @Label("Kind")
+    String kind;
+
+    @Label("Adapter")
+    String adapter;
+
+    @Label("Requested")
+    @Description("Number of items requested from the upstream")
+    long requested;
+
+    @Label("Received")
+    @Description("Number of items received from the upstream")
+    long received;
+
+    @Label("Emitted")
+    @Description("Number of items passed to the downstream")
+    long emitted;
+
+    @Label("Buffered")
+    @Description("Number of items received and not yet passed to the downstream")
+    long buffered;
+
+    @Label("Outstanding Demand")
+    @Description("Number of items requested and not yet received")
+    long outstandingDemand;
+
+    @Label("Items per Second")
+    @Description("Number of items passed to the downstream per second since the previous event")
+    double itemsPerSecond;
+
+    @Label("Paused")
+    boolean paused;
+
+    @Label("Paused Time")
+    @Description("Cumulated time spent paused")
+    @Timespan(Timespan.NANOSECONDS)
+    long pausedTime;
+}
@@ -0,0 +1,41 @@
+package io.smallrye.mutiny.vertx.instrumentation.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("io.smallrye.mutiny.vertx.AdapterTerminated")
+@Label("Adapter Terminated")
+@Description("An adapter completed, failed or was cancelled, the event spans the adapter lifetime")
+@Category({ "SmallRye Mutiny", "Vert.x" })
+@StackTrace(false)
+class AdapterTerminatedEvent extends jdk.jfr.Event {
+
+    @Label("Kind")
+    String kind;
+
+    @Label("Adapter")
+    String adapter;
+
+    @Label("Requested")
+    long requested;
+
+    @Label("Received")
+    long received;
+
+    @Label("Emitted")
+    long emitted;
+
+    @Label("Paused Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long pausedTime;
+
+    @Label("Cancelled")
+    boolean cancelled;
+
+    @Label("Failure")
+    String failure;
+}
@@ -0,0 +1,156 @@
+package io.smallrye.mutiny.vertx.instrumentation.jfr;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.smallrye.mutiny.vertx.instrumentation.AdapterKind;
+import io.smallrye.mutiny.vertx.instrumentation.AdapterListener;
+import jdk.jfr.FlightRecorder;
+
+/**
+ * The {@link AdapterListener} of {@link JfrInstrumentation}.
+ */
+class JfrAdapterListener implements AdapterListener {
+
+    private static final long NOT_PAUSED = -1L;
+
+    // The live stream adapters, weakly referenced so an abandoned adapter does not leak
+    private static final Set<JfrAdapterListener> LIVE = Collections
+            .synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+    static {
+        FlightRecorder.addPeriodicEvent(AdapterStatisticsEvent.class, JfrAdapterListener::emitStatistics);
+    }
+
+    private final AdapterKind kind;
+    private final String adapter;
+    private final AdapterTerminatedEvent lifetime = new AdapterTerminatedEvent();
+
+    private final LongAdder requested = new LongAdder();
+    private final LongAdder received = new LongAdder();
+    private final LongAdder emitted = new LongAdder();
+    private final LongAdder pausedTime = new LongAdder();
+    private final AtomicLong pausedSince = new AtomicLong(NOT_PAUSED);
+
+    // Only accessed from the periodic hook
+    private long lastEmitted;
+    private long lastTimestamp = System.nanoTime();
+
+    JfrAdapterListener(AdapterKind kind, Object adapter) {
+        this.kind = kind;
+        this.adapter = adapter.getClass().getName() + "@" + Integer.toHexString(System.identityHashCode(adapter));
+        lifetime.begin();
+        if (kind != AdapterKind.ASYNC_RESULT_UNI) {
+            LIVE.add(this);
+        }
+    }
+
+    @Override
+    public void onRequest(long n) {
+        requested.add(n);
+    }
+
+    @Override
+    public void onReceived() {
+        received.increment();
+    }
+
+    @Override
+    public void onEmitted() {
+        emitted.increment();
+    }
+
+    @Override
+    public void onPause() {
+        pausedSince.compareAndSet(NOT_PAUSED, System.nanoTime());
+    }
+
+    @Override
+    public void onResume() {
+        long since = pausedSince.getAndSet(NOT_PAUSED);
+        if (since == NOT_PAUSED) {
+            return;
+        }
+        long duration = System.nanoTime() - since;
+        pausedTime.add(duration);
+        AdapterPausedEvent event = new AdapterPausedEvent();
+        if (event.isEnabled()) {
+            event.kind = kind.name();
+            event.adapter = adapter;
+            event.pausedTime = duration;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void onTerminate(Throwable failure) {
+        terminated(failure, false);
+    }
+
+    @Override
+    public void onCancel() {
+        terminated(null, true);
+    }
+
+    private void terminated(Throwable failure, boolean cancelled) {
+        if (!LIVE.remove(this) && kind != AdapterKind.ASYNC_RESULT_UNI) {
+            // Already reported
+            return;
+        }
+        onResume();
+        AdapterTerminatedEvent event = lifetime;
+        event.end();
+        if (event.shouldCommit()) {
+            event.kind = kind.name();
+            event.adapter = adapter;
+            event.requested = requested.sum();
+            event.received = received.sum();
+            event.emitted = emitted.sum();
+            event.pausedTime = pausedTime.sum();
+            event.cancelled = cancelled;
+            event.failure = failure == null ? null : failure.toString();
+            event.commit();
+        }
+    }
+
+    private static void emitStatistics() {
+        List<JfrAdapterListener> listeners;
+        synchronized (LIVE) {
+            listeners = new ArrayList<>(LIVE);
+        }
+        long now = System.nanoTime();
+        for (JfrAdapterListener listener : listeners) {
+            listener.emitStatistics(now);
+        }
+    }
+
+    private void emitStatistics(long now) {
+        long totalRequested = requested.sum();
+        long totalReceived = received.sum();
+        long totalEmitted = emitted.sum();
+        long elapsed = now - lastTimestamp;
+
+        AdapterStatisticsEvent event = new AdapterStatisticsEvent();
+        event.kind = kind.name();
+        event.adapter = adapter;
+        event.requested = totalRequested;
+        event.received = totalReceived;
+        event.emitted = totalEmitted;
+        event.buffered = Math.max(0L, totalReceived - totalEmitted);
+        event.outstandingDemand = Math.max(0L, totalRequested - totalReceived);
+        event.itemsPerSecond = elapsed <= 0L ? 0.0
+                : (double) (totalEmitted - lastEmitted) * TimeUnit.SECONDS.toNanos(1) / elapsed;
+        event.paused = pausedSince.get() != NOT_PAUSED;
+        event.pausedTime = pausedTime.sum();
+        event.commit();
+
+        lastEmitted = totalEmitted;
+        lastTimestamp = now;
+    }
+}
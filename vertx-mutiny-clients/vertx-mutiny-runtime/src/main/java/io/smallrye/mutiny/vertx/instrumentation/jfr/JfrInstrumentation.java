@@ -0,0 +1,47 @@
+package io.smallrye.mutiny.vertx.instrumentation.jfr;
+
+import io.smallrye.mutiny.vertx.instrumentation.AdapterInstrumentation;
+import io.smallrye.mutiny.vertx.instrumentation.AdapterKind;
+import io.smallrye.mutiny.vertx.instrumentation.AdapterListener;
+
+/**
+ * An {@link AdapterInstrumentation} exporting the adapter signals as JDK Flight Recorder events.
+ * <p>
+ * It is disabled unless the {@code io.smallrye.mutiny.vertx.jfr} system property is set to {@code true} and the JVM
+ * supports JFR. Three events are recorded:
+ * <ul>
+ * <li>{@code io.smallrye.mutiny.vertx.AdapterStatistics}, periodically (every second by default) for each live stream
+ * adapter, with its counters, buffer occupancy, outstanding demand and throughput,</li>
+ * <li>{@code io.smallrye.mutiny.vertx.AdapterPaused}, for each period during which an adapter is paused,</li>
+ * <li>{@code io.smallrye.mutiny.vertx.AdapterTerminated}, when an adapter terminates or is cancelled, spanning its
+ * whole lifetime.</li>
+ * </ul>
+ * <p>
+ * This class does not reference the JFR API, so it can be loaded on JVMs without JFR.
+ */
+public class JfrInstrumentation implements AdapterInstrumentation {
+
+    /**
+     * The system property enabling the JFR instrumentation.
+     */
+    public static final String ENABLED_PROPERTY = "io.smallrye.mutiny.vertx.jfr";
+
+    @Override
+    public boolean isEnabled() {
+        return Boolean.getBoolean(ENABLED_PROPERTY) && isJfrAvailable();
+    }
+
+    @Override
+    public AdapterListener newListener(AdapterKind kind, Object adapter) {
+        return new JfrAdapterListener(kind, adapter);
+    }
+
+    private static boolean isJfrAvailable() {
+        try {
+            Class.forName("jdk.jfr.FlightRecorder", false, JfrInstrumentation.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package io.vertx.mutiny.sqlclient;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collector;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
+import io.vertx.sqlclient.PreparedQuery;
+import io.vertx.sqlclient.Query;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.SqlClient;
+import io.vertx.sqlclient.SqlResult;
+import io.vertx.sqlclient.Tuple;
+
+/**
+ * A {@link SqlClient} serving the results of the {@code SELECT} statements from a {@link QueryCache}.
+ */
+class CachingSqlClient implements SqlClient {
+
+    // Leading whitespaces and parentheses, then SELECT
+    private static final Pattern READ = Pattern.compile("^[\\s(]*SELECT\\b", Pattern.CASE_INSENSITIVE);
+    // Locking reads and SELECT INTO write or lock rows
+    private static final Pattern NOT_READ = Pattern.compile(
+            "\\bFOR\\s+(NO\\s+KEY\\s+)?(UPDATE|SHARE|KEY\\s+SHARE)\\b|\\bINTO\\b",
+            Pattern.CASE_INSENSITIVE);
+
+    private final SqlClient delegate;
+    private final QueryCache cache;
+    private final Set<String> tags;
+
+    CachingSqlClient(SqlClient delegate, QueryCache cache, Set<String> tags) {
+        this.delegate = delegate;
+        this.cache = cache;
+        this.tags = tags;
+    }
+
+    @Override
+    public Query<RowSet<Row>> query(String sql) {
+        return new CachingQuery(sql);
+    }
+
+    @Override
+    public PreparedQuery<RowSet<Row>> preparedQuery(String sql) {
+        return new CachingPreparedQuery(sql);
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+
+    static boolean isCacheable(String sql) {
+        return READ.matcher(sql).find() && !NOT_READ.matcher(sql).find();
+    }
+
+    private void execute(String sql, boolean prepared, Tuple tuple,
+            Consumer<Handler<AsyncResult<RowSet<Row>>>> executor, Handler<AsyncResult<RowSet<Row>>> handler) {
+        if (isCacheable(sql)) {
+            cache.execute(sql, prepared, tuple, tags, executor, handler);
+        } else {
+            write(executor, handler);
+        }
+    }
+
+    // The statement may write to the tables, the cached results are invalidated once it succeeds
+    private void write(Consumer<Handler<AsyncResult<RowSet<Row>>>> executor,
+            Handler<AsyncResult<RowSet<Row>>> handler) {
+        executor.accept(ar -> {
+            if (ar.succeeded()) {
+                cache.invalidate(tags.toArray(new String[0]));
+            }
+            handler.handle(ar);
+        });
+    }
+
+    private class CachingQuery implements Query<RowSet<Row>> {
+
+        final String sql;
+
+        CachingQuery(String sql) {
+            this.sql = sql;
+        }
+
+        @Override
+        public void execute(Handler<AsyncResult<RowSet<Row>>> handler) {
+            CachingSqlClient.this.execute(sql, false, null, h -> delegate.query(sql).execute(h), handler);
+        }
+
+        @Override
+        public <R> Query<SqlResult<R>> collecting(Collector<Row, ?, R> collector) {
+            return delegate.query(sql).collecting(collector);
+        }
+
+        @Override
+        public <U> Query<RowSet<U>> mapping(Function<Row, U> mapper) {
+            return delegate.query(sql).mapping(mapper);
+        }
+    }
+
+    private class CachingPreparedQuery extends CachingQuery implements PreparedQuery<RowSet<Row>> {
+
+        CachingPreparedQuery(String sql) {
+            super(sql);
+        }
+
+        @Override
+        public void execute(Handler<AsyncResult<RowSet<Row>>> handler) {
+            CachingSqlClient.this.execute(sql, true, null, h -> delegate.preparedQuery(sql).execute(h), handler);
+        }
+
+        @Override
+        public void execute(Tuple tuple, Handler<AsyncResult<RowSet<Row>>> handler) {
+            CachingSqlClient.this.execute(sql, true, tuple, h -> delegate.preparedQuery(sql).execute(tuple, h),
+                    handler);
+        }
+
+        @Override
+        public void executeBatch(List<Tuple> batch, Handler<AsyncResult<RowSet<Row>>> handler) {
+            write(h -> delegate.preparedQuery(sql).executeBatch(batch, h), handler);
+        }
+
+        @Override
+        public <R> PreparedQuery<SqlResult<R>> collecting(Collector<Row, ?, R> collector) {
+            return delegate.preparedQuery(sql).collecting(collector);
+        }
+
+        @Override
+        public <U> PreparedQuery<RowSet<U>> mapping(Function<Row, U> mapper) {
+            return delegate.preparedQuery(sql).mapping(mapper);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package io.vertx.mutiny.sqlclient;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+import io.smallrye.mutiny.helpers.ParameterValidation;
+import io.vertx.mutiny.core.Vertx;
+
+/**
+ * A {@link ConnectionListener} reporting the connections held longer than a threshold.
+ * <p>
+ * The stack of the code using each connection is captured when the {@code Uni} or {@code Multi} of the
+ * {@link SqlClientHelper} methods is built, which has a cost: the detector is meant to be registered while
+ * investigating leaks, before building them. Held connections are checked with {@link #check()}, or periodically once
+ * {@link #start(Vertx, Duration)} has been called. Each leaked connection is reported once.
+ */
+public class ConnectionLeakDetector implements ConnectionListener {
+
+    private final long thresholdInNanos;
+    private final Consumer<Leak> reporter;
+    private final LongSupplier clock;
+
+    // A connection is held by a single user until it is released
+    private final Map<SqlConnection, Holder> held = new ConcurrentHashMap<>();
+
+    public ConnectionLeakDetector(Duration threshold, Consumer<Leak> reporter) {
+        this(threshold, reporter, System::nanoTime);
+    }
+
+    ConnectionLeakDetector(Duration threshold, Consumer<Leak> reporter, LongSupplier clock) {
+        this.thresholdInNanos = ParameterValidation.validate(threshold, "threshold").toNanos();
+        this.reporter = ParameterValidation.nonNull(reporter, "reporter");
+        this.clock = clock;
+    }
+
+    @Override
+    public boolean requiresAcquisitionStack() {
+        return true;
+    }
+
+    @Override
+    public void onAcquired(Pool pool, SqlConnection connection, long waitTime, Throwable acquisition) {
+        held.put(connection, new Holder(pool, clock.getAsLong(), acquisition));
+    }
+
+    @Override
+    public void onReleased(Pool pool, SqlConnection connection, long holdTime) {
+        held.remove(connection);
+    }
+
+    /**
+     * Reports the connections held longer than the threshold that have not been reported yet.
+     *
+     * @return the number of reported connections
+     */
+    public synchronized int check() {
+        long now = clock.getAsLong();
+        int reported = 0;
+        for (Holder holder : held.values()) {
+            long heldTime = now - holder.acquired;
+            if (heldTime >= thresholdInNanos && !holder.reported) {
+                holder.reported = true;
+                reported++;
+                try {
+                    reporter.accept(new Leak(holder.pool, heldTime, holder.stack));
+                } catch (RuntimeException e) {
+                    // A broken reporter must not prevent the other leaks from being reported
+                }
+            }
+        }
+        return reported;
+    }
+
+    /**
+     * Calls {@link #check()} periodically.
+     *
+     * @param vertx the Vert.x instance
+     * @param period the period
+     * @return the timer id, to be cancelled with {@link Vertx#cancelTimer(long)}
+     */
+    public long start(Vertx vertx, Duration period) {
+        ParameterValidation.nonNull(vertx, "vertx");
+        long periodInMs = Math.max(1L, ParameterValidation.validate(period, "period").toMillis());
+        return vertx.setPeriodic(periodInMs, id -> check());
+    }
+
+    /**
+     * @return the number of connections currently held
+     */
+    public int getHeldCount() {
+        return held.size();
+    }
+
+    private static final class Holder {
+
+        private final Pool pool;
+        private final long acquired;
+        private final Throwable stack;
+        // Guarded by the detector
+        private boolean reported;
+
+        Holder(Pool pool, long acquired, Throwable stack) {
+            this.pool = pool;
+            this.acquired = acquired;
+            this.stack = stack;
+        }
+    }
+
+    /**
+     * A connection held longer than the threshold.
+     */
+    public static final class Leak {
+
+        private final Pool pool;
+        private final long heldTime;
+        private final Throwable acquisition;
+
+        Leak(Pool pool, long heldTime, Throwable acquisition) {
+            this.pool = pool;
+            this.heldTime = heldTime;
+            this.acquisition = acquisition;
+        }
+
+        public Pool getPool() {
+            return pool;
+        }
+
+        /**
+         * @return the time elapsed since the acquisition of the connection, in nanoseconds
+         */
+        public long getHeldTime() {
+            return heldTime;
+        }
+
+        /**
+         * @return a {@link Throwable} whose stack trace is the stack of the code using the connection, {@code null} if
+         *         the {@code Uni} or {@code Multi} using it was built before the registration of the detector
+         */
+        public Throwable getAcquisition() {
+            return acquisition;
+        }
+    }
+}
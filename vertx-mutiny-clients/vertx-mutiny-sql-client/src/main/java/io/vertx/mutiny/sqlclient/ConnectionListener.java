@@ -0,0 +1,61 @@
+package io.vertx.mutiny.sqlclient;
+
+/**
+ * Receives the connection events of {@link SqlClientHelper}.
+ * <p>
+ * A connection is acquired from its {@link Pool} when a {@link io.smallrye.mutiny.Uni} or a
+ * {@link io.smallrye.mutiny.Multi} returned by the {@code usingConnection} or {@code inTransaction} methods is
+ * subscribed, and released when it terminates or is cancelled. Listeners are registered with
+ * {@link SqlClientHelper#addConnectionListener(ConnectionListener)}.
+ * <p>
+ * Methods are called for all the pools, possibly from different threads, and must not block. Failures thrown by
+ * listeners are ignored. Durations are in nanoseconds.
+ */
+public interface ConnectionListener {
+
+    /**
+     * Whether the listener receives the acquisition stack in {@link #onAcquired(Pool, SqlConnection, long, Throwable)}.
+     * Capturing it has a cost, it is only captured when a registered listener requires it.
+     *
+     * @return {@code true} to receive the acquisition stack, {@code false} by default
+     */
+    default boolean requiresAcquisitionStack() {
+        return false;
+    }
+
+    /**
+     * Called when a connection has been acquired.
+     *
+     * @param pool the pool
+     * @param connection the connection
+     * @param waitTime the time elapsed between the connection request and its acquisition
+     * @param acquisition a {@link Throwable} whose stack trace is the stack of the code that built the {@code Uni} or
+     *        {@code Multi} using the connection, {@code null} if no listener requires it or if it was built before the
+     *        registration of such a listener
+     */
+    default void onAcquired(Pool pool, SqlConnection connection, long waitTime, Throwable acquisition) {
+        // Do nothing by default
+    }
+
+    /**
+     * Called when a connection could not be acquired.
+     *
+     * @param pool the pool
+     * @param failure the failure
+     * @param waitTime the time elapsed between the connection request and the failure
+     */
+    default void onAcquireFailure(Pool pool, Throwable failure, long waitTime) {
+        // Do nothing by default
+    }
+
+    /**
+     * Called when a connection has been released.
+     *
+     * @param pool the pool
+     * @param connection the connection
+     * @param holdTime the time elapsed between the acquisition of the connection and its release
+     */
+    default void onReleased(Pool pool, SqlConnection connection, long holdTime) {
+        // Do nothing by default
+    }
+}
@@ -0,0 +1,118 @@
+package io.vertx.mutiny.sqlclient;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link ConnectionListener} aggregating the connection events of each {@link Pool}.
+ * <p>
+ * The metrics of a pool are created on its first event. The wait times of the failed acquisitions are not included
+ * in the wait times.
+ */
+public class ConnectionMetrics implements ConnectionListener {
+
+    // Keyed by the pool delegate, the same pool may be wrapped several times
+    private final Map<Object, PoolMetrics> pools = new ConcurrentHashMap<>();
+
+    /**
+     * @param pool the pool
+     * @return the metrics of the given pool, {@code null} if no event has been received for this pool
+     */
+    public PoolMetrics get(Pool pool) {
+        return pools.get(pool.getDelegate());
+    }
+
+    private PoolMetrics metrics(Pool pool) {
+        return pools.computeIfAbsent(pool.getDelegate(), k -> new PoolMetrics());
+    }
+
+    @Override
+    public void onAcquired(Pool pool, SqlConnection connection, long waitTime, Throwable acquisition) {
+        PoolMetrics metrics = metrics(pool);
+        metrics.acquired.increment();
+        record(metrics.totalWaitTime, metrics.maxWaitTime, waitTime);
+        metrics.maxHolders.accumulateAndGet(metrics.holders.incrementAndGet(), Math::max);
+    }
+
+    @Override
+    public void onAcquireFailure(Pool pool, Throwable failure, long waitTime) {
+        metrics(pool).failed.increment();
+    }
+
+    @Override
+    public void onReleased(Pool pool, SqlConnection connection, long holdTime) {
+        PoolMetrics metrics = metrics(pool);
+        metrics.holders.decrementAndGet();
+        metrics.released.increment();
+        record(metrics.totalHoldTime, metrics.maxHoldTime, holdTime);
+    }
+
+    private static void record(LongAdder total, AtomicLong max, long duration) {
+        total.add(duration);
+        max.accumulateAndGet(duration, Math::max);
+    }
+
+    /**
+     * The connection metrics of a {@link Pool}. Durations are in nanoseconds.
+     */
+    public static final class PoolMetrics {
+
+        private final LongAdder acquired = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAdder released = new LongAdder();
+        private final AtomicInteger holders = new AtomicInteger();
+        private final AtomicInteger maxHolders = new AtomicInteger();
+        private final LongAdder totalWaitTime = new LongAdder();
+        private final AtomicLong maxWaitTime = new AtomicLong();
+        private final LongAdder totalHoldTime = new LongAdder();
+        private final AtomicLong maxHoldTime = new AtomicLong();
+
+        private PoolMetrics() {
+        }
+
+        public long getAcquiredCount() {
+            return acquired.sum();
+        }
+
+        public long getAcquireFailureCount() {
+            return failed.sum();
+        }
+
+        public long getReleasedCount() {
+            return released.sum();
+        }
+
+        /**
+         * @return the number of connections currently held
+         */
+        public int getHolders() {
+            return holders.get();
+        }
+
+        /**
+         * @return the maximum number of connections held concurrently
+         */
+        public int getMaxHolders() {
+            return maxHolders.get();
+        }
+
+        public long getTotalWaitTime() {
+            return totalWaitTime.sum();
+        }
+
+        public long getMaxWaitTime() {
+            return maxWaitTime.get();
+        }
+
+        public long getTotalHoldTime() {
+            return totalHoldTime.sum();
+        }
+
+        public long getMaxHoldTime() {
+            return maxHoldTime.get();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package io.vertx.mutiny.sqlclient;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+import io.smallrye.mutiny.helpers.ParameterValidation;
+
+/**
+ * Routes the connections of a {@link Pool} facade to a primary pool and to replica pools.
+ * <p>
+ * The connections used with {@link SqlClientHelper#usingConnectionUni(Pool, java.util.function.Function)} and
+ * {@link SqlClientHelper#usingConnectionMulti(Pool, java.util.function.Function)}, or acquired with
+ * {@link Pool#getConnection()}, are acquired from a replica chosen according to the {@link Balancing}. The connections
+ * used with {@link SqlClientHelper#inTransactionUni(Pool, java.util.function.Function)} and
+ * {@link SqlClientHelper#inTransactionMulti(Pool, java.util.function.Function)}, the transactions started with
+ * {@link Pool#begin()} and the queries executed directly on the facade use the primary.
+ * <p>
+ * Replicas may lag behind the primary. The stickiness is tracked per Vert.x {@link io.vertx.core.Context}, that is per
+ * verticle instance, or per thread when not running on a context. Once a transaction has been used on a context, the
+ * connections acquired on this context come from the primary during the {@code stickiness} window, so the following
+ * reads see the writes. It is not tracked per request: all the requests handled by the same verticle instance share
+ * it. The reads on the other contexts and threads keep using the replicas.
+ */
+public class PoolRouter {
+
+    /**
+     * How replicas are chosen.
+     */
+    public enum Balancing {
+
+        /**
+         * Chooses the replica with the fewest connections being acquired or used.
+         */
+        LEAST_IN_FLIGHT,
+
+        /**
+         * Chooses the replica with the lowest {@linkplain PoolStats#getLatency() latency}, weighted by the number of
+         * connections being acquired or used. Replicas without latency are chosen first.
+         */
+        LATENCY_WEIGHTED
+    }
+
+    private final RoutingPool routing;
+    private final Pool pool;
+
+    /**
+     * @param primary the primary pool
+     * @param replicas the replica pools, if empty all the connections are acquired from the primary
+     * @param balancing how replicas are chosen
+     * @param stickiness the duration during which the connections acquired on a context or thread come from the primary
+     *        after a transaction was used on it, {@link Duration#ZERO} to disable it
+     */
+    public PoolRouter(Pool primary, List<Pool> replicas, Balancing balancing, Duration stickiness) {
+        this(primary, replicas, balancing, stickiness, System::nanoTime);
+    }
+
+    PoolRouter(Pool primary, List<Pool> replicas, Balancing balancing, Duration stickiness, LongSupplier clock) {
+        ParameterValidation.nonNull(primary, "primary");
+        ParameterValidation.doesNotContainNull(ParameterValidation.nonNull(replicas, "replicas"), "replicas");
+        ParameterValidation.nonNull(balancing, "balancing");
+        if (ParameterValidation.nonNull(stickiness, "stickiness").isNegative()) {
+            throw new IllegalArgumentException("`stickiness` must not be negative");
+        }
+        List<io.vertx.sqlclient.Pool> delegates = new ArrayList<>(replicas.size());
+        for (Pool replica : replicas) {
+            delegates.add(replica.getDelegate());
+        }
+        this.routing = new RoutingPool(primary.getDelegate(), delegates, balancing, stickiness.toNanos(), clock);
+        this.pool = Pool.newInstance(routing);
+    }
+
+    /**
+     * @return the pool facade, closing it closes the primary and the replicas
+     */
+    public Pool pool() {
+        return pool;
+    }
+
+    /**
+     * @return the statistics of the primary
+     */
+    public PoolStats getPrimaryStats() {
+        return routing.primary.stats;
+    }
+
+    /**
+     * @return the statistics of the replicas, in the order of the replicas
+     */
+    public List<PoolStats> getReplicaStats() {
+        List<PoolStats> stats = new ArrayList<>(routing.replicas.size());
+        for (RoutingPool.Target replica : routing.replicas) {
+            stats.add(replica.stats);
+        }
+        return Collections.unmodifiableList(stats);
+    }
+}
@@ -0,0 +1,68 @@
+package io.vertx.mutiny.sqlclient;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The statistics of a {@link Pool} used by a {@link PoolRouter}.
+ */
+public class PoolStats {
+
+    // Weight of the last usage in the latency average
+    private static final double WEIGHT = 0.3;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder acquired = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    // Guarded by this when updated
+    private volatile long latency;
+
+    /**
+     * @return the number of connections being acquired or used
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * @return the number of connections acquired
+     */
+    public long getAcquiredCount() {
+        return acquired.sum();
+    }
+
+    /**
+     * @return the number of connections that could not be acquired
+     */
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    /**
+     * @return the exponentially weighted moving average of the time elapsed between the connection requests and the
+     *         connection releases, in nanoseconds, {@code 0} until a connection has been released
+     */
+    public long getLatency() {
+        return latency;
+    }
+
+    void acquiring() {
+        inFlight.incrementAndGet();
+    }
+
+    void acquired() {
+        acquired.increment();
+    }
+
+    void failed() {
+        failed.increment();
+        inFlight.decrementAndGet();
+    }
+
+    synchronized void released(long duration) {
+        long current = latency;
+        latency = current == 0L ? duration : current + (long) (WEIGHT * (duration - current));
+        inFlight.decrementAndGet();
+    }
+}
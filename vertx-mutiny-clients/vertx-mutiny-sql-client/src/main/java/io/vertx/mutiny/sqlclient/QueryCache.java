@@ -0,0 +1,277 @@
+package io.vertx.mutiny.sqlclient;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+import io.smallrye.mutiny.helpers.ParameterValidation;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+
+/**
+ * A cache of query results, shared by the {@link SqlClient}s created with {@link #client(SqlClient, String...)}.
+ * <p>
+ * Results of {@code SELECT} statements are keyed by the SQL text and the arguments of the query. The cache holds at most
+ * {@code maxSize} results,
+ * evicting the least recently used ones, and a result expires {@code ttl} after having been fetched. Concurrent
+ * executions of the same query missing the cache are collapsed into a single execution.
+ * <p>
+ * Each client tags the results it caches, generally with the names of the tables it reads. The results are
+ * invalidated with {@link #invalidate(String...)}, or with
+ * {@link SqlClientHelper#inTransactionUni(Pool, java.util.function.Function, QueryCache, String...)} once a
+ * transaction writing to the tables terminates. A result fetched while one of its tags is invalidated is not cached.
+ * <p>
+ * The cached {@link RowSet}s are shared by all the executions hitting the cache, they must not be modified.
+ */
+public class QueryCache {
+
+    private final int maxSize;
+    private final long ttlInNanos;
+    private final LongSupplier clock;
+
+    // Guarded by this
+    private final Map<Key, Entry> entries;
+    private final Map<Key, Load> loads = new HashMap<>();
+    private final Map<String, Long> epochs = new HashMap<>();
+    private long globalEpoch;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public QueryCache(int maxSize, Duration ttl) {
+        this(maxSize, ttl, System::nanoTime);
+    }
+
+    QueryCache(int maxSize, Duration ttl, LongSupplier clock) {
+        this.maxSize = ParameterValidation.positive(maxSize, "maxSize");
+        this.ttlInNanos = ParameterValidation.validate(ttl, "ttl").toNanos();
+        this.clock = clock;
+        this.entries = new LinkedHashMap<Key, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                if (size() > QueryCache.this.maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Creates a client executing the queries with the given client, caching their results.
+     * <p>
+     * Only the results of the {@code SELECT} statements are cached, including the ones executed with
+     * {@link PreparedQuery#execute(Tuple)}. Locking reads ({@code FOR UPDATE}, {@code FOR SHARE}) and
+     * {@code SELECT ... INTO} are not cached, neither are the {@code mapping} queries. The other statements are
+     * executed directly, and invalidate the tags of the client once they succeed, as does a successful
+     * {@link PreparedQuery#executeBatch(List)}.
+     *
+     * @param client the client executing the queries
+     * @param tags the tags of the results cached by the returned client
+     * @return the caching client
+     */
+    public SqlClient client(SqlClient client, String... tags) {
+        ParameterValidation.nonNull(client, "client");
+        Set<String> set = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(tags)));
+        return SqlClient.newInstance(new CachingSqlClient(client.getDelegate(), this, set));
+    }
+
+    /**
+     * Invalidates the results tagged with one of the given tags.
+     *
+     * @param tags the tags
+     */
+    public synchronized void invalidate(String... tags) {
+        Set<String> invalidated = new HashSet<>(Arrays.asList(tags));
+        for (String tag : invalidated) {
+            epochs.merge(tag, 1L, Long::sum);
+        }
+        entries.values().removeIf(entry -> !Collections.disjoint(entry.tags, invalidated));
+        // Running loads are not cached, later executions must not wait for them
+        loads.values().removeIf(load -> !Collections.disjoint(load.tags, invalidated));
+    }
+
+    /**
+     * Invalidates all the results.
+     */
+    public synchronized void invalidateAll() {
+        globalEpoch++;
+        entries.clear();
+        loads.clear();
+    }
+
+    /**
+     * @return the number of executions served from the cache
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of executions not served from the cache, including the ones collapsed with a running
+     *         execution
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the number of results evicted because the cache was full or because they expired
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * @return the number of cached results, including the expired ones not evicted yet
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    void execute(String sql, boolean prepared, io.vertx.sqlclient.Tuple args, Set<String> tags,
+            Consumer<Handler<AsyncResult<io.vertx.sqlclient.RowSet<io.vertx.sqlclient.Row>>>> executor,
+            Handler<AsyncResult<io.vertx.sqlclient.RowSet<io.vertx.sqlclient.Row>>> handler) {
+        Key key = new Key(sql, prepared, args);
+        io.vertx.sqlclient.RowSet<io.vertx.sqlclient.Row> cached = null;
+        Load load;
+        boolean first = false;
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry != null && clock.getAsLong() - entry.fetched >= ttlInNanos) {
+                entries.remove(key);
+                evictions.increment();
+                entry = null;
+            }
+            if (entry != null) {
+                hits.increment();
+                cached = entry.rows;
+                load = null;
+            } else {
+                misses.increment();
+                load = loads.get(key);
+                if (load == null) {
+                    load = new Load(key, tags, epoch(tags));
+                    loads.put(key, load);
+                    first = true;
+                }
+                load.handlers.add(handler);
+            }
+        }
+        if (cached != null) {
+            handler.handle(Future.succeededFuture(cached));
+        } else if (first) {
+            Load started = load;
+            try {
+                executor.accept(ar -> complete(started, ar));
+            } catch (RuntimeException e) {
+                complete(started, Future.failedFuture(e));
+            }
+        }
+    }
+
+    private void complete(Load load, AsyncResult<io.vertx.sqlclient.RowSet<io.vertx.sqlclient.Row>> ar) {
+        List<Handler<AsyncResult<io.vertx.sqlclient.RowSet<io.vertx.sqlclient.Row>>>> handlers;
+        synchronized (this) {
+            loads.remove(load.key, load);
+            handlers = load.handlers;
+            if (ar.succeeded() && load.epoch == epoch(load.tags)) {
+                entries.put(load.key, new Entry(ar.result(), load.tags, clock.getAsLong()));
+            }
+        }
+        for (Handler<AsyncResult<io.vertx.sqlclient.RowSet<io.vertx.sqlclient.Row>>> handler : handlers) {
+            handler.handle(ar);
+        }
+    }
+
+    // Guarded by this, increases when one of the tags is invalidated
+    private long epoch(Set<String> tags) {
+        long epoch = globalEpoch;
+        for (String tag : tags) {
+            epoch += epochs.getOrDefault(tag, 0L);
+        }
+        return epoch;
+    }
+
+    private static final class Key {
+
+        private final String sql;
+        private final boolean prepared;
+        private final List<Object> args;
+        private final int hash;
+
+        Key(String sql, boolean prepared, io.vertx.sqlclient.Tuple tuple) {
+            this.sql = sql;
+            this.prepared = prepared;
+            if (tuple == null || tuple.size() == 0) {
+                this.args = Collections.emptyList();
+            } else {
+                List<Object> values = new ArrayList<>(tuple.size());
+                for (int i = 0; i < tuple.size(); i++) {
+                    values.add(tuple.getValue(i));
+                }
+                this.args = values;
+            }
+            this.hash = Objects.hash(sql, prepared, args);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Key that = (Key) o;
+            return prepared == that.prepared && sql.equals(that.sql) && args.equals(that.args);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static final class Entry {
+
+        private final io.vertx.sqlclient.RowSet<io.vertx.sqlclient.Row> rows;
+        private final Set<String> tags;
+        private final long fetched;
+
+        Entry(io.vertx.sqlclient.RowSet<io.vertx.sqlclient.Row> rows, Set<String> tags, long fetched) {
+            this.rows = rows;
+            this.tags = tags;
+            this.fetched = fetched;
+        }
+    }
+
+    private static final class Load {
+
+        private final Key key;
+        private final Set<String> tags;
+        private final long epoch;
+        private final List<Handler<AsyncResult<io.vertx.sqlclient.RowSet<io.vertx.sqlclient.Row>>>> handlers = new ArrayList<>(
+                1);
+
+        Load(Key key, Set<String> tags, long epoch) {
+            this.key = key;
+            this.tags = tags;
+            this.epoch = epoch;
+        }
+    }
+}
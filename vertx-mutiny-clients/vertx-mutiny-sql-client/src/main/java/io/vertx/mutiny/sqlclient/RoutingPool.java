@@ -0,0 +1,252 @@
+package io.vertx.mutiny.sqlclient;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.sqlclient.Pool;
+import io.vertx.sqlclient.PreparedQuery;
+import io.vertx.sqlclient.PreparedStatement;
+import io.vertx.sqlclient.Query;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.SqlConnection;
+import io.vertx.sqlclient.Transaction;
+import io.vertx.sqlclient.spi.DatabaseMetadata;
+
+/**
+ * The {@link Pool} behind the facade of a {@link PoolRouter}.
+ */
+class RoutingPool implements Pool {
+
+    final Target primary;
+    final List<Target> replicas;
+    private final PoolRouter.Balancing balancing;
+    private final long stickinessInNanos;
+    private final LongSupplier clock;
+
+    // Rotates the first replica considered, spreading the connections among equivalent replicas
+    private final AtomicInteger next = new AtomicInteger();
+    // Time of the last write of each caller, a Vert.x context (shared by its requests) or a thread, guarded by itself
+    private final Map<Object, Long> lastWrites = new WeakHashMap<>();
+
+    RoutingPool(Pool primary, List<Pool> replicas, PoolRouter.Balancing balancing, long stickinessInNanos,
+            LongSupplier clock) {
+        this.primary = new Target(primary);
+        this.replicas = new ArrayList<>(replicas.size());
+        for (Pool replica : replicas) {
+            this.replicas.add(new Target(replica));
+        }
+        this.balancing = balancing;
+        this.stickinessInNanos = stickinessInNanos;
+        this.clock = clock;
+    }
+
+    @Override
+    public void getConnection(Handler<AsyncResult<SqlConnection>> handler) {
+        acquire(read(), false, handler);
+    }
+
+    void getPrimaryConnection(Handler<AsyncResult<SqlConnection>> handler) {
+        acquire(primary, true, handler);
+    }
+
+    @Override
+    public Query<RowSet<Row>> query(String sql) {
+        return primary.pool.query(sql);
+    }
+
+    @Override
+    public PreparedQuery<RowSet<Row>> preparedQuery(String sql) {
+        return primary.pool.preparedQuery(sql);
+    }
+
+    @Override
+    public void begin(Handler<AsyncResult<Transaction>> handler) {
+        written(caller());
+        primary.pool.begin(handler);
+    }
+
+    @Override
+    public void close() {
+        primary.pool.close();
+        for (Target replica : replicas) {
+            replica.pool.close();
+        }
+    }
+
+    private Target read() {
+        if (replicas.isEmpty() || sticky(caller())) {
+            return primary;
+        }
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        Target best = null;
+        double bestScore = 0;
+        for (int i = 0; i < size; i++) {
+            Target candidate = replicas.get((start + i) % size);
+            PoolStats stats = candidate.stats;
+            double score;
+            if (balancing == PoolRouter.Balancing.LEAST_IN_FLIGHT) {
+                score = stats.getInFlight();
+            } else {
+                score = (stats.getInFlight() + 1.0) * stats.getLatency();
+            }
+            if (best == null || score < bestScore) {
+                best = candidate;
+                bestScore = score;
+            }
+        }
+        return best;
+    }
+
+    private static Object caller() {
+        Context context = Vertx.currentContext();
+        return context != null ? context : Thread.currentThread();
+    }
+
+    private boolean sticky(Object caller) {
+        if (stickinessInNanos == 0L) {
+            return false;
+        }
+        synchronized (lastWrites) {
+            Long lastWrite = lastWrites.get(caller);
+            if (lastWrite == null) {
+                return false;
+            }
+            if (clock.getAsLong() - lastWrite < stickinessInNanos) {
+                return true;
+            }
+            lastWrites.remove(caller);
+            return false;
+        }
+    }
+
+    private void written(Object caller) {
+        if (stickinessInNanos != 0L) {
+            synchronized (lastWrites) {
+                lastWrites.put(caller, clock.getAsLong());
+            }
+        }
+    }
+
+    private void acquire(Target target, boolean write, Handler<AsyncResult<SqlConnection>> handler) {
+        // Remembered, the connection may be released from another context
+        Object caller = write ? caller() : null;
+        if (write) {
+            written(caller);
+        }
+        long requested = clock.getAsLong();
+        target.stats.acquiring();
+        try {
+            target.pool.getConnection(ar -> {
+                if (ar.succeeded()) {
+                    target.stats.acquired();
+                    handler.handle(Future.succeededFuture(new RoutedConnection(ar.result(), target, requested, caller)));
+                } else {
+                    target.stats.failed();
+                    handler.handle(Future.failedFuture(ar.cause()));
+                }
+            });
+        } catch (RuntimeException e) {
+            target.stats.failed();
+            throw e;
+        }
+    }
+
+    static final class Target {
+
+        final Pool pool;
+        final PoolStats stats = new PoolStats();
+
+        Target(Pool pool) {
+            this.pool = pool;
+        }
+    }
+
+    /**
+     * A connection updating the statistics of its pool when closed.
+     */
+    private class RoutedConnection implements SqlConnection {
+
+        private final SqlConnection delegate;
+        private final Target target;
+        private final long requested;
+        // The caller that acquired the connection to write, null for reads
+        private final Object writer;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        RoutedConnection(SqlConnection delegate, Target target, long requested, Object writer) {
+            this.delegate = delegate;
+            this.target = target;
+            this.requested = requested;
+            this.writer = writer;
+        }
+
+        @Override
+        public SqlConnection prepare(String sql, Handler<AsyncResult<PreparedStatement>> handler) {
+            delegate.prepare(sql, handler);
+            return this;
+        }
+
+        @Override
+        public SqlConnection exceptionHandler(Handler<Throwable> handler) {
+            delegate.exceptionHandler(handler);
+            return this;
+        }
+
+        @Override
+        public SqlConnection closeHandler(Handler<Void> handler) {
+            delegate.closeHandler(handler);
+            return this;
+        }
+
+        @Override
+        public Transaction begin() {
+            return delegate.begin();
+        }
+
+        @Override
+        public boolean isSSL() {
+            return delegate.isSSL();
+        }
+
+        @Override
+        public DatabaseMetadata databaseMetadata() {
+            return delegate.databaseMetadata();
+        }
+
+        @Override
+        public Query<RowSet<Row>> query(String sql) {
+            return delegate.query(sql);
+        }
+
+        @Override
+        public PreparedQuery<RowSet<Row>> preparedQuery(String sql) {
+            return delegate.preparedQuery(sql);
+        }
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                try {
+                    delegate.close();
+                } finally {
+                    if (writer != null) {
+                        written(writer);
+                    }
+                    target.stats.released(clock.getAsLong() - requested);
+                }
+            }
+        }
+    }
+}
@@ -1,15 +1,24 @@
 package io.vertx.mutiny.sqlclient;
 
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Function;
 
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.ParameterValidation;
+import io.smallrye.mutiny.vertx.AsyncResultUni;
 
 /**
  * Utilities for generating {@link Multi} and {@link Uni} with a {@link SqlClient}.
+ * <p>
+ * The connections acquired by the helpers are observed with {@link ConnectionListener}s, such as
+ * {@link ConnectionMetrics} and {@link ConnectionLeakDetector}.
  */
 public class SqlClientHelper {
 
+    private static final List<ConnectionListener> LISTENERS = new CopyOnWriteArrayList<>();
+
     /**
      * Generates a {@link Multi} from operations executed inside a {@link Transaction}.
      *
@@ -20,7 +29,7 @@ public class SqlClientHelper {
      * @return a {@link Multi} generated from operations executed inside a {@link Transaction}
      */
     public static <T> Multi<T> inTransactionMulti(Pool pool, Function<SqlClient, Multi<T>> sourceSupplier) {
-        return usingConnectionMulti(pool, conn -> {
+        return usingConnectionMulti(pool, primaryConnection(pool), conn -> {
             Transaction transaction = conn.begin();
             return Multi.createBy().concatenating().streams(
                     sourceSupplier.apply(transaction),
@@ -42,7 +51,7 @@ public class SqlClientHelper {
      * @return a {@link Uni} generated from operations executed inside a {@link Transaction}
      */
     public static <T> Uni<T> inTransactionUni(Pool pool, Function<SqlClient, Uni<T>> sourceSupplier) {
-        return usingConnectionUni(pool, conn -> {
+        return usingConnectionUni(pool, primaryConnection(pool), conn -> {
             Transaction transaction = conn.begin();
             return sourceSupplier.apply(transaction)
                     .onItem()
@@ -54,6 +63,25 @@ public class SqlClientHelper {
         });
     }
 
+    /**
+     * Like {@link #inTransactionUni(Pool, Function)}, except the results of the given {@link QueryCache} tagged with
+     * one of the given tags are invalidated when the transaction terminates, whether it has been committed or not.
+     *
+     * @param pool the {@link Pool}
+     * @param sourceSupplier a user-provided function returning a {@link Uni} generated by interacting with the given
+     *        {@link SqlClient}
+     * @param cache the cache
+     * @param tags the tags of the results to invalidate, generally the names of the tables written by the transaction
+     * @param <T> the type of the items emitted by the {@link Uni}
+     * @return a {@link Uni} generated from operations executed inside a {@link Transaction}
+     */
+    public static <T> Uni<T> inTransactionUni(Pool pool, Function<SqlClient, Uni<T>> sourceSupplier, QueryCache cache,
+            String... tags) {
+        ParameterValidation.nonNull(cache, "cache");
+        return inTransactionUni(pool, sourceSupplier)
+                .onTermination().invoke(() -> cache.invalidate(tags));
+    }
+
     /**
      * Generates a {@link Multi} from {@link SqlConnection} operations.
      *
@@ -64,12 +92,17 @@ public class SqlClientHelper {
      * @return a {@link Multi} generated from {@link SqlConnection} operations
      */
     public static <T> Multi<T> usingConnectionMulti(Pool pool, Function<SqlConnection, Multi<T>> sourceSupplier) {
-        return pool.getConnection().onItem().transformToMulti(conn -> {
+        return usingConnectionMulti(pool, pool.getConnection(), sourceSupplier);
+    }
+
+    private static <T> Multi<T> usingConnectionMulti(Pool pool, Uni<SqlConnection> connection,
+            Function<SqlConnection, Multi<T>> sourceSupplier) {
+        return acquire(pool, connection, acquisitionStack()).onItem().transformToMulti(lease -> {
             try {
-                return sourceSupplier.apply(conn)
-                        .onTermination().invoke(conn::close);
+                return sourceSupplier.apply(lease.connection)
+                        .onTermination().invoke(lease::release);
             } catch (Throwable t) {
-                conn.close();
+                lease.release();
                 return Multi.createFrom().failure(t);
             }
         });
@@ -85,17 +118,203 @@ public class SqlClientHelper {
      * @return a {@link Uni} generated from {@link SqlConnection} operations
      */
     public static <T> Uni<T> usingConnectionUni(Pool pool, Function<SqlConnection, Uni<T>> sourceSupplier) {
-        return pool.getConnection().onItem().transformToUni(conn -> {
+        return usingConnectionUni(pool, pool.getConnection(), sourceSupplier);
+    }
+
+    private static <T> Uni<T> usingConnectionUni(Pool pool, Uni<SqlConnection> connection,
+            Function<SqlConnection, Uni<T>> sourceSupplier) {
+        return acquire(pool, connection, acquisitionStack()).onItem().transformToUni(lease -> {
             try {
-                return sourceSupplier.apply(conn).onTermination().invoke(conn::close);
+                return sourceSupplier.apply(lease.connection).onTermination().invoke(lease::release);
             } catch (Throwable t) {
-                conn.close();
+                lease.release();
                 return Uni.createFrom().failure(t);
             }
         });
     }
 
+    /**
+     * Registers a listener receiving the events of the connections acquired by the {@code usingConnection} and
+     * {@code inTransaction} methods, for all the pools.
+     *
+     * @param listener the listener
+     */
+    public static void addConnectionListener(ConnectionListener listener) {
+        LISTENERS.add(ParameterValidation.nonNull(listener, "listener"));
+    }
+
+    /**
+     * Unregisters a listener registered with {@link #addConnectionListener(ConnectionListener)}.
+     *
+     * @param listener the listener
+     */
+    public static void removeConnectionListener(ConnectionListener listener) {
+        LISTENERS.remove(listener);
+    }
+
+    /**
+     * Generates a {@link Multi} streaming the rows of a query with a {@link Cursor}.
+     * <p>
+     * On subscription, a connection is acquired from the {@link Pool}, a {@link Transaction} is started and the query is
+     * prepared. Rows are fetched {@code fetchSize} at a time, only when requested downstream, so the number of rows held
+     * in memory does not depend on the size of the result. The transaction is committed once all the rows have been
+     * emitted. On failure or cancellation, it is rolled back. In all cases, the connection is released.
+     *
+     * @param pool the {@link Pool}
+     * @param sql the query
+     * @param args the query arguments, {@code null} if the query does not have arguments
+     * @param fetchSize the number of rows fetched at a time, must be positive
+     * @return a {@link Multi} emitting the rows of the query
+     */
+    public static Multi<Row> streamQuery(Pool pool, String sql, Tuple args, int fetchSize) {
+        ParameterValidation.nonNull(sql, "sql");
+        ParameterValidation.positive(fetchSize, "fetchSize");
+        return usingConnectionMulti(pool, conn -> {
+            Transaction transaction = conn.begin();
+            Multi<Row> rows = transaction.prepare(sql).onItem().transformToMulti(statement -> {
+                Cursor cursor = args == null ? statement.cursor() : statement.cursor(args);
+                // Each batch is read when the rows of the previous one have been consumed
+                return Multi.createBy().repeating().uni(() -> cursor.read(fetchSize))
+                        .whilst(batch -> cursor.hasMore())
+                        .onItem().transformToIterable(batch -> batch);
+            });
+            // On cancellation, the transaction is rolled back when the connection is closed
+            return Multi.createBy().concatenating().streams(
+                    rows,
+                    transaction.commit().toMulti().onItem().castTo(Row.class))
+                    .onFailure().recoverWithMulti(throwable -> {
+                        return transaction.rollback().onFailure().recoverWithItem((Void) null)
+                                .onItem().transformToMulti(v -> Multi.createFrom().failure(throwable));
+                    });
+        });
+    }
+
+    /**
+     * Like {@link #batchSink(Pool, String, int, int, boolean)}, except the batches are not executed inside a
+     * {@link Transaction}.
+     *
+     * @param pool the {@link Pool}
+     * @param sql the statement executed for each {@link Tuple}
+     * @param batchSize the maximum number of tuples per batch, must be positive
+     * @param maxConcurrency the maximum number of batches executed concurrently, must be positive
+     * @return a function writing the tuples of a {@link Multi} and returning the {@link Multi} of batch results
+     */
+    public static Function<Multi<Tuple>, Multi<RowSet<Row>>> batchSink(Pool pool, String sql, int batchSize,
+            int maxConcurrency) {
+        return batchSink(pool, sql, batchSize, maxConcurrency, false);
+    }
+
+    /**
+     * Creates a function executing a statement for each {@link Tuple} emitted by a {@link Multi}, in batches.
+     * <p>
+     * The tuples are grouped into lists of {@code batchSize} tuples, the last one possibly being smaller. Each list is
+     * executed with {@link PreparedQuery#executeBatch(List)}, and up to {@code maxConcurrency} batches are executed
+     * concurrently on connections of the {@link Pool}. Tuples are requested from the upstream {@link Multi} only when
+     * a batch can be executed.
+     * <p>
+     * The returned {@link Multi} emits the result of each batch. When {@code maxConcurrency} is greater than one, the
+     * results may not be emitted in the order of the batches. It fails with the first batch failure, cancelling the
+     * upstream {@link Multi}.
+     *
+     * @param pool the {@link Pool}
+     * @param sql the statement executed for each {@link Tuple}
+     * @param batchSize the maximum number of tuples per batch, must be positive
+     * @param maxConcurrency the maximum number of batches executed concurrently, must be positive
+     * @param transactional whether each batch is executed inside its own {@link Transaction}
+     * @return a function writing the tuples of a {@link Multi} and returning the {@link Multi} of batch results
+     */
+    public static Function<Multi<Tuple>, Multi<RowSet<Row>>> batchSink(Pool pool, String sql, int batchSize,
+            int maxConcurrency, boolean transactional) {
+        ParameterValidation.nonNull(pool, "pool");
+        ParameterValidation.nonNull(sql, "sql");
+        ParameterValidation.positive(batchSize, "batchSize");
+        ParameterValidation.positive(maxConcurrency, "maxConcurrency");
+        Function<List<Tuple>, Uni<RowSet<Row>>> executor;
+        if (transactional) {
+            executor = batch -> inTransactionUni(pool, transaction -> transaction.preparedQuery(sql).executeBatch(batch));
+        } else {
+            executor = batch -> pool.preparedQuery(sql).executeBatch(batch);
+        }
+        return tuples -> tuples
+                .groupItems().intoLists().of(batchSize)
+                .onItem().transformToUni(executor::apply).merge(maxConcurrency);
+    }
+
+    // Captured when the Uni or Multi is built, the stack then contains the code using the connection
+    private static Throwable acquisitionStack() {
+        for (ConnectionListener listener : LISTENERS) {
+            if (listener.requiresAcquisitionStack()) {
+                return new Throwable("Connection acquired here");
+            }
+        }
+        return null;
+    }
+
+    private static Uni<Lease> acquire(Pool pool, Uni<SqlConnection> connection, Throwable stack) {
+        return Uni.createFrom().deferred(() -> {
+            long requested = System.nanoTime();
+            return connection
+                    .onFailure().invoke(failure -> {
+                        long waitTime = System.nanoTime() - requested;
+                        for (ConnectionListener listener : LISTENERS) {
+                            try {
+                                listener.onAcquireFailure(pool, failure, waitTime);
+                            } catch (RuntimeException ignored) {
+                                // A broken listener must not break the helpers
+                            }
+                        }
+                    })
+                    .onItem().transform(conn -> new Lease(pool, conn, requested, stack));
+        });
+    }
+
+    // Transactions of a PoolRouter facade use the primary
+    private static Uni<SqlConnection> primaryConnection(Pool pool) {
+        if (pool.getDelegate() instanceof RoutingPool) {
+            RoutingPool routing = (RoutingPool) pool.getDelegate();
+            return AsyncResultUni.<io.vertx.sqlclient.SqlConnection> toUni(routing::getPrimaryConnection)
+                    .onItem().transform(SqlConnection::newInstance);
+        }
+        return pool.getConnection();
+    }
+
     private SqlClientHelper() {
         // Utility
     }
+
+    /**
+     * A connection acquired by the helpers, notifying the listeners.
+     */
+    private static final class Lease {
+
+        private final Pool pool;
+        private final SqlConnection connection;
+        private final long acquired;
+
+        Lease(Pool pool, SqlConnection connection, long requested, Throwable stack) {
+            this.pool = pool;
+            this.connection = connection;
+            this.acquired = System.nanoTime();
+            long waitTime = acquired - requested;
+            for (ConnectionListener listener : LISTENERS) {
+                try {
+                    listener.onAcquired(pool, connection, waitTime, stack);
+                } catch (RuntimeException ignored) {
+                    // A broken listener must not break the helpers
+                }
+            }
+        }
+
+        void release() {
+            connection.close();
+            long holdTime = System.nanoTime() - acquired;
+            for (ConnectionListener listener : LISTENERS) {
+                try {
+                    listener.onReleased(pool, connection, holdTime);
+                } catch (RuntimeException ignored) {
+                    // A broken listener must not break the helpers
+                }
+            }
+        }
+    }
 }
@@ -0,0 +1,39 @@
+package io.vertx.mutiny.sqlclient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import io.smallrye.mutiny.Multi;
+
+public abstract class BatchSinkTest extends SqlClientHelperTestBase {
+
+    @Test
+    public void writeInBatches() throws Exception {
+        Multi<Tuple> tuples = Multi.createFrom().items("Georges", "Henry", "Georges").onItem().transform(Tuple::of);
+        List<RowSet<Row>> results = SqlClientHelper.batchSink(pool, insertFolkSql(), 2, 2).apply(tuples)
+                .collectItems().asList().await().indefinitely();
+        assertThat(results).hasSize(2);
+        List<String> actual = uniqueNames(pool).collectItems().asList().await().indefinitely();
+        assertThat(actual).isEqualTo(namesWithExtraFolks());
+    }
+
+    @Test
+    public void transactionalBatchFailure() throws Exception {
+        // The second tuple violates the not null constraint
+        Multi<Tuple> tuples = Multi.createFrom().items(Tuple.of("Georges"), Tuple.of(null));
+        try {
+            SqlClientHelper.batchSink(pool, insertFolkSql(), 2, 1, true).apply(tuples)
+                    .collectItems().asList().await().indefinitely();
+            fail("Should not complete succesfully");
+        } catch (Exception expected) {
+            // The batch has been rolled back
+        }
+        assertTableContainsInitDataOnly();
+    }
+
+    protected abstract String insertFolkSql();
+}
@@ -0,0 +1,152 @@
+package io.vertx.mutiny.sqlclient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.smallrye.mutiny.Uni;
+
+public class ConnectionListenerTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final List<ConnectionLeakDetector.Leak> leaks = new CopyOnWriteArrayList<>();
+    private FakePool fake;
+    private Pool pool;
+    private ConnectionMetrics metrics;
+    private ConnectionLeakDetector detector;
+
+    @Before
+    public void setUp() {
+        fake = new FakePool();
+        pool = Pool.newInstance(fake);
+        metrics = new ConnectionMetrics();
+        detector = new ConnectionLeakDetector(Duration.ofSeconds(1), leaks::add, clock::get);
+        SqlClientHelper.addConnectionListener(metrics);
+        SqlClientHelper.addConnectionListener(detector);
+    }
+
+    @After
+    public void tearDown() {
+        SqlClientHelper.removeConnectionListener(metrics);
+        SqlClientHelper.removeConnectionListener(detector);
+    }
+
+    private CompletableFuture<String> hold() {
+        CompletableFuture<String> future = new CompletableFuture<>();
+        SqlClientHelper.usingConnectionMulti(pool, conn -> Uni.createFrom().completionStage(future).toMulti())
+                .subscribe().with(item -> {
+                }, failure -> {
+                });
+        return future;
+    }
+
+    @Test
+    public void testMetrics() {
+        assertThat(metrics.get(pool)).isNull();
+
+        CompletableFuture<String> first = hold();
+        CompletableFuture<String> second = hold();
+        ConnectionMetrics.PoolMetrics poolMetrics = metrics.get(pool);
+        assertThat(poolMetrics.getAcquiredCount()).isEqualTo(2);
+        assertThat(poolMetrics.getHolders()).isEqualTo(2);
+
+        first.complete("done");
+        second.completeExceptionally(new IllegalStateException("boom"));
+        SqlClientHelper.inTransactionUni(pool, tx -> tx.preparedQuery("DELETE FROM folks").execute())
+                .await().indefinitely();
+        assertThat(poolMetrics.getAcquiredCount()).isEqualTo(3);
+        assertThat(poolMetrics.getReleasedCount()).isEqualTo(3);
+        assertThat(fake.released).hasValue(3);
+        assertThat(poolMetrics.getHolders()).isEqualTo(0);
+        assertThat(poolMetrics.getMaxHolders()).isEqualTo(2);
+        assertThat(poolMetrics.getTotalWaitTime()).isGreaterThanOrEqualTo(poolMetrics.getMaxWaitTime())
+                .isGreaterThanOrEqualTo(0);
+        assertThat(poolMetrics.getTotalHoldTime()).isGreaterThanOrEqualTo(poolMetrics.getMaxHoldTime())
+                .isGreaterThanOrEqualTo(0);
+
+        // The same pool, wrapped again
+        assertThat(metrics.get(Pool.newInstance(fake))).isSameAs(poolMetrics);
+        assertThat(metrics.get(Pool.newInstance(new FakePool()))).isNull();
+    }
+
+    @Test
+    public void testAcquireFailure() {
+        fake.failure = new IllegalStateException("boom");
+
+        assertThatThrownBy(() -> SqlClientHelper.usingConnectionUni(pool, conn -> Uni.createFrom().item("hello"))
+                .await().indefinitely()).isInstanceOf(IllegalStateException.class).hasMessage("boom");
+        assertThat(metrics.get(pool).getAcquireFailureCount()).isEqualTo(1);
+        assertThat(metrics.get(pool).getAcquiredCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void testReleasedWhenTheSupplierThrows() {
+        assertThatThrownBy(() -> SqlClientHelper.usingConnectionUni(pool, conn -> {
+            throw new IllegalStateException("boom");
+        }).await().indefinitely()).isInstanceOf(IllegalStateException.class);
+        assertThat(metrics.get(pool).getReleasedCount()).isEqualTo(1);
+        assertThat(detector.getHeldCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void testBrokenListenerIsIgnored() {
+        ConnectionListener broken = new ConnectionListener() {
+            @Override
+            public void onAcquired(Pool pool, SqlConnection connection, long waitTime, Throwable acquisition) {
+                throw new IllegalStateException("boom");
+            }
+        };
+        SqlClientHelper.addConnectionListener(broken);
+        try {
+            assertThat(SqlClientHelper.usingConnectionUni(pool, conn -> Uni.createFrom().item("hello"))
+                    .await().indefinitely()).isEqualTo("hello");
+            assertThat(metrics.get(pool).getReleasedCount()).isEqualTo(1);
+        } finally {
+            SqlClientHelper.removeConnectionListener(broken);
+        }
+    }
+
+    @Test
+    public void testLeakDetection() {
+        CompletableFuture<String> leaked = hold();
+        clock.addAndGet(Duration.ofMillis(500).toNanos());
+        CompletableFuture<String> recent = hold();
+        assertThat(detector.getHeldCount()).isEqualTo(2);
+        assertThat(detector.check()).isEqualTo(0);
+
+        clock.addAndGet(Duration.ofMillis(500).toNanos());
+        assertThat(detector.check()).isEqualTo(1);
+        assertThat(leaks).hasSize(1);
+        ConnectionLeakDetector.Leak leak = leaks.get(0);
+        assertThat(leak.getPool()).isSameAs(pool);
+        assertThat(leak.getHeldTime()).isEqualTo(Duration.ofSeconds(1).toNanos());
+        // Captured when the Uni was built, not in a callback of the pool
+        StackTraceElement[] stack = leak.getAcquisition().getStackTrace();
+        assertThat(stack[0].getClassName()).isEqualTo(SqlClientHelper.class.getName());
+        StackTraceElement caller = Arrays.stream(stack)
+                .filter(element -> !element.getClassName().equals(SqlClientHelper.class.getName()))
+                .findFirst().orElseThrow(AssertionError::new);
+        assertThat(caller.getClassName()).isEqualTo(ConnectionListenerTest.class.getName());
+        assertThat(caller.getMethodName()).isEqualTo("hold");
+
+        // Reported once
+        assertThat(detector.check()).isEqualTo(0);
+
+        recent.complete("done");
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertThat(detector.check()).isEqualTo(0);
+        leaked.complete("done");
+        assertThat(detector.getHeldCount()).isEqualTo(0);
+        assertThat(leaks).hasSize(1);
+    }
+}
@@ -0,0 +1,86 @@
+package io.vertx.mutiny.sqlclient;
+
+import static io.vertx.mutiny.sqlclient.Fakes.proxy;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+
+/**
+ * A pool whose connections execute all the statements and transactions successfully, without rows.
+ */
+class FakePool implements io.vertx.sqlclient.Pool {
+
+    final AtomicInteger acquired = new AtomicInteger();
+    final AtomicInteger released = new AtomicInteger();
+    final AtomicInteger queries = new AtomicInteger();
+    volatile Throwable failure;
+
+    @Override
+    public void getConnection(Handler<AsyncResult<io.vertx.sqlclient.SqlConnection>> handler) {
+        if (failure != null) {
+            handler.handle(Future.failedFuture(failure));
+            return;
+        }
+        acquired.incrementAndGet();
+        handler.handle(Future.succeededFuture(connection()));
+    }
+
+    @Override
+    public io.vertx.sqlclient.Query<io.vertx.sqlclient.RowSet<io.vertx.sqlclient.Row>> query(String sql) {
+        return preparedQuery(sql);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public io.vertx.sqlclient.PreparedQuery<io.vertx.sqlclient.RowSet<io.vertx.sqlclient.Row>> preparedQuery(String sql) {
+        queries.incrementAndGet();
+        return proxy(io.vertx.sqlclient.PreparedQuery.class,
+                name -> (Handler<Handler<AsyncResult<Object>>>) h -> h.handle(Future.succeededFuture(Fakes.rowSet())));
+    }
+
+    @Override
+    public void begin(Handler<AsyncResult<io.vertx.sqlclient.Transaction>> handler) {
+        handler.handle(Future.succeededFuture(transaction()));
+    }
+
+    @Override
+    public void close() {
+    }
+
+    private io.vertx.sqlclient.SqlConnection connection() {
+        io.vertx.sqlclient.Transaction transaction = transaction();
+        return proxy(io.vertx.sqlclient.SqlConnection.class, name -> {
+            switch (name) {
+                case "begin":
+                    return transaction;
+                case "close":
+                    released.incrementAndGet();
+                    return null;
+                case "query":
+                case "preparedQuery":
+                    return preparedQuery(null);
+                default:
+                    return null;
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private io.vertx.sqlclient.Transaction transaction() {
+        return proxy(io.vertx.sqlclient.Transaction.class, name -> {
+            switch (name) {
+                case "query":
+                case "preparedQuery":
+                    return preparedQuery(null);
+                case "commit":
+                case "rollback":
+                    return (Handler<Handler<AsyncResult<Void>>>) h -> h.handle(Future.succeededFuture());
+                default:
+                    return null;
+            }
+        });
+    }
+}
@@ -0,0 +1,44 @@
+package io.vertx.mutiny.sqlclient;
+
+import java.lang.reflect.Proxy;
+import java.util.function.Function;
+
+import io.vertx.core.Handler;
+
+/**
+ * Creates in-memory implementations of the Vert.x SQL client interfaces.
+ */
+final class Fakes {
+
+    private Fakes() {
+        // Utility
+    }
+
+    /**
+     * Creates an implementation of the given interface. Each method returns the result of {@code behavior} applied to
+     * the method name, except when the method takes a trailing {@link Handler} and the result is a {@link Handler}: the
+     * result is then called with the handler and the method returns {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T proxy(Class<T> type, Function<String, Object> behavior) {
+        return (T) Proxy.newProxyInstance(Fakes.class.getClassLoader(), new Class[] { type },
+                (proxy, method, args) -> {
+                    if (method.getName().equals("equals")) {
+                        return proxy == args[0];
+                    }
+                    if (method.getName().equals("hashCode")) {
+                        return System.identityHashCode(proxy);
+                    }
+                    Object result = behavior.apply(method.getName());
+                    if (result instanceof Handler && args != null && args[args.length - 1] instanceof Handler) {
+                        ((Handler<Object>) result).handle(args[args.length - 1]);
+                        return null;
+                    }
+                    return result;
+                });
+    }
+
+    static io.vertx.sqlclient.RowSet<io.vertx.sqlclient.Row> rowSet() {
+        return proxy(io.vertx.sqlclient.RowSet.class, name -> null);
+    }
+}
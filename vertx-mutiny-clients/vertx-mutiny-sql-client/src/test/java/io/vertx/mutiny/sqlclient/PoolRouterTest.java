@@ -0,0 +1,239 @@
+package io.vertx.mutiny.sqlclient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+public class PoolRouterTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private FakePool primary;
+    private FakePool first;
+    private FakePool second;
+
+    @Before
+    public void setUp() {
+        primary = new FakePool();
+        first = new FakePool();
+        second = new FakePool();
+    }
+
+    private PoolRouter router(PoolRouter.Balancing balancing, Duration stickiness) {
+        return new PoolRouter(Pool.newInstance(primary),
+                Arrays.asList(Pool.newInstance(first), Pool.newInstance(second)), balancing, stickiness,
+                clock::get);
+    }
+
+    private static CompletableFuture<String> hold(Pool pool) {
+        CompletableFuture<String> future = new CompletableFuture<>();
+        SqlClientHelper.usingConnectionUni(pool, conn -> Uni.createFrom().completionStage(future))
+                .subscribe().with(item -> {
+                });
+        return future;
+    }
+
+    private static void read(Pool pool) {
+        SqlClientHelper.usingConnectionUni(pool, conn -> conn.query("SELECT name FROM folks").execute())
+                .await().indefinitely();
+    }
+
+    @Test
+    public void testReadsUseTheLeastInFlightReplica() {
+        PoolRouter router = router(PoolRouter.Balancing.LEAST_IN_FLIGHT, Duration.ZERO);
+        Pool pool = router.pool();
+
+        CompletableFuture<String> a = hold(pool);
+        CompletableFuture<String> b = hold(pool);
+        assertThat(first.acquired).hasValue(1);
+        assertThat(second.acquired).hasValue(1);
+
+        a.complete("done");
+        assertThat(first.released).hasValue(1);
+        CompletableFuture<String> c = hold(pool);
+        assertThat(first.acquired).hasValue(2);
+        assertThat(router.getReplicaStats().get(0).getInFlight()).isEqualTo(1);
+        assertThat(router.getReplicaStats().get(1).getInFlight()).isEqualTo(1);
+
+        b.complete("done");
+        c.complete("done");
+        assertThat(router.getReplicaStats().get(0).getInFlight()).isEqualTo(0);
+        assertThat(router.getReplicaStats().get(0).getAcquiredCount()).isEqualTo(2);
+        assertThat(router.getReplicaStats().get(1).getAcquiredCount()).isEqualTo(1);
+        assertThat(primary.acquired).hasValue(0);
+    }
+
+    @Test
+    public void testReadsPreferTheLowestLatency() {
+        PoolRouter router = router(PoolRouter.Balancing.LATENCY_WEIGHTED, Duration.ZERO);
+        Pool pool = router.pool();
+
+        CompletableFuture<String> slow = hold(pool);
+        CompletableFuture<String> fast = hold(pool);
+        clock.addAndGet(Duration.ofMillis(2).toNanos());
+        fast.complete("done");
+        clock.addAndGet(Duration.ofMillis(3).toNanos());
+        slow.complete("done");
+        assertThat(router.getReplicaStats().get(0).getLatency()).isEqualTo(Duration.ofMillis(5).toNanos());
+        assertThat(router.getReplicaStats().get(1).getLatency()).isEqualTo(Duration.ofMillis(2).toNanos());
+
+        // Weighted by the connections in flight: (1 + 1) * 2ms < (0 + 1) * 5ms < (2 + 1) * 2ms
+        hold(pool);
+        hold(pool);
+        assertThat(first.acquired).hasValue(1);
+        assertThat(second.acquired).hasValue(3);
+        assertThat(router.getReplicaStats().get(1).getInFlight()).isEqualTo(2);
+        hold(pool);
+        assertThat(first.acquired).hasValue(2);
+    }
+
+    @Test
+    public void testTransactionsUseThePrimary() {
+        PoolRouter router = router(PoolRouter.Balancing.LEAST_IN_FLIGHT, Duration.ZERO);
+        Pool pool = router.pool();
+
+        SqlClientHelper.inTransactionUni(pool, tx -> tx.preparedQuery("DELETE FROM folks").execute())
+                .await().indefinitely();
+        SqlClientHelper.inTransactionMulti(pool, tx -> tx.preparedQuery("DELETE FROM folks").execute().toMulti())
+                .collectItems().asList().await().indefinitely();
+        assertThat(primary.acquired).hasValue(2);
+        assertThat(primary.released).hasValue(2);
+        assertThat(router.getPrimaryStats().getAcquiredCount()).isEqualTo(2);
+        assertThat(router.getPrimaryStats().getInFlight()).isEqualTo(0);
+        assertThat(first.acquired).hasValue(0);
+        assertThat(second.acquired).hasValue(0);
+
+        read(pool);
+        assertThat(primary.acquired).hasValue(2);
+        assertThat(first.acquired.get() + second.acquired.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void testQueriesUseThePrimary() {
+        Pool pool = router(PoolRouter.Balancing.LEAST_IN_FLIGHT, Duration.ZERO).pool();
+
+        pool.query("SELECT name FROM folks").execute().await().indefinitely();
+        pool.preparedQuery("INSERT INTO folks (name) VALUES ($1)").execute(Tuple.of("Jane")).await().indefinitely();
+        assertThat(primary.queries).hasValue(2);
+        assertThat(first.queries).hasValue(0);
+        assertThat(second.queries).hasValue(0);
+    }
+
+    @Test
+    public void testReadsStickToThePrimaryAfterAWrite() {
+        Pool pool = router(PoolRouter.Balancing.LEAST_IN_FLIGHT, Duration.ofSeconds(1)).pool();
+
+        read(pool);
+        assertThat(primary.acquired).hasValue(0);
+
+        SqlClientHelper.inTransactionUni(pool, tx -> tx.preparedQuery("DELETE FROM folks").execute())
+                .await().indefinitely();
+        clock.addAndGet(Duration.ofMillis(999).toNanos());
+        read(pool);
+        assertThat(primary.acquired).hasValue(2);
+
+        clock.addAndGet(Duration.ofMillis(1).toNanos());
+        read(pool);
+        assertThat(primary.acquired).hasValue(2);
+        assertThat(first.acquired.get() + second.acquired.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void testStickinessIsScopedToTheWritingCaller() throws Exception {
+        Pool pool = router(PoolRouter.Balancing.LEAST_IN_FLIGHT, Duration.ofSeconds(1)).pool();
+        Vertx vertx = Vertx.vertx();
+        try {
+            Context writer = vertx.getOrCreateContext();
+            Context other = vertx.getOrCreateContext();
+            onContext(writer, () -> SqlClientHelper
+                    .inTransactionUni(pool, tx -> tx.preparedQuery("DELETE FROM folks").execute())
+                    .await().indefinitely());
+            assertThat(primary.acquired).hasValue(1);
+
+            onContext(other, () -> read(pool));
+            assertThat(primary.acquired).hasValue(1);
+            read(pool);
+            assertThat(primary.acquired).hasValue(1);
+            assertThat(first.acquired.get() + second.acquired.get()).isEqualTo(2);
+
+            onContext(writer, () -> read(pool));
+            assertThat(primary.acquired).hasValue(2);
+        } finally {
+            vertx.close();
+        }
+    }
+
+    @Test
+    public void testStickinessIsSharedByTheRequestsOfAContext() throws Exception {
+        Pool pool = router(PoolRouter.Balancing.LEAST_IN_FLIGHT, Duration.ofSeconds(1)).pool();
+        Vertx vertx = Vertx.vertx();
+        try {
+            // Two requests handled by the same verticle instance
+            Context context = vertx.getOrCreateContext();
+            onContext(context, () -> SqlClientHelper
+                    .inTransactionUni(pool, tx -> tx.preparedQuery("DELETE FROM folks").execute())
+                    .await().indefinitely());
+            assertThat(primary.acquired).hasValue(1);
+
+            onContext(context, () -> read(pool));
+            assertThat(primary.acquired).hasValue(2);
+            assertThat(first.acquired.get() + second.acquired.get()).isEqualTo(0);
+        } finally {
+            vertx.close();
+        }
+    }
+
+    private static void onContext(Context context, Runnable action) throws Exception {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        context.runOnContext(v -> {
+            try {
+                action.run();
+                done.complete(null);
+            } catch (Throwable t) {
+                done.completeExceptionally(t);
+            }
+        });
+        done.get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testWithoutReplicas() {
+        Pool pool = new PoolRouter(Pool.newInstance(primary), Collections.emptyList(),
+                PoolRouter.Balancing.LEAST_IN_FLIGHT, Duration.ZERO).pool();
+
+        read(pool);
+        assertThat(primary.acquired).hasValue(1);
+    }
+
+    @Test
+    public void testAcquisitionFailure() {
+        PoolRouter router = router(PoolRouter.Balancing.LEAST_IN_FLIGHT, Duration.ZERO);
+        first.failure = new IllegalStateException("boom");
+
+        assertThatThrownBy(() -> read(router.pool())).isInstanceOf(IllegalStateException.class).hasMessage("boom");
+        assertThat(router.getReplicaStats().get(0).getFailedCount()).isEqualTo(1);
+        assertThat(router.getReplicaStats().get(0).getInFlight()).isEqualTo(0);
+    }
+
+    @Test
+    public void testInvalidParameters() {
+        assertThatThrownBy(() -> new PoolRouter(Pool.newInstance(primary), Collections.emptyList(),
+                PoolRouter.Balancing.LEAST_IN_FLIGHT, Duration.ofSeconds(-1)))
+                        .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new PoolRouter(Pool.newInstance(primary), Collections.singletonList(null),
+                PoolRouter.Balancing.LEAST_IN_FLIGHT, Duration.ZERO))
+                        .isInstanceOf(IllegalArgumentException.class);
+    }
+}
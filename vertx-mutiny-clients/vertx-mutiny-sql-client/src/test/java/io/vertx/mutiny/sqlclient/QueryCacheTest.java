@@ -0,0 +1,363 @@
+package io.vertx.mutiny.sqlclient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collector;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.UniSubscriber;
+import io.smallrye.mutiny.subscription.UniSubscription;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+
+public class QueryCacheTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private FakeClient fake;
+    private QueryCache cache;
+    private SqlClient client;
+
+    @Before
+    public void setUp() {
+        fake = new FakeClient();
+        cache = new QueryCache(2, Duration.ofSeconds(10), clock::get);
+        client = cache.client(SqlClient.newInstance(fake), "folks");
+    }
+
+    @Test
+    public void testHit() {
+        Recorder first = client.preparedQuery("SELECT name FROM folks WHERE id = $1")
+                .execute(Tuple.of(1)).subscribe().withSubscriber(new Recorder());
+        io.vertx.sqlclient.RowSet<io.vertx.sqlclient.Row> rows = fake.complete(0);
+        first.assertSucceeded();
+        assertThat(first.item.getDelegate()).isSameAs(rows);
+
+        RowSet<Row> second = client.preparedQuery("SELECT name FROM folks WHERE id = $1")
+                .execute(Tuple.of(1)).await().indefinitely();
+        assertThat(second.getDelegate()).isSameAs(rows);
+        assertThat(fake.pending).hasSize(1);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void testKeyedByTextAndArguments() {
+        client.preparedQuery("SELECT name FROM folks WHERE id = $1").execute(Tuple.of(1)).subscribe()
+                .with(rows -> {
+                });
+        client.preparedQuery("SELECT name FROM folks WHERE id = $1").execute(Tuple.of(2)).subscribe()
+                .with(rows -> {
+                });
+        client.query("SELECT name FROM folks").execute().subscribe().with(rows -> {
+        });
+        client.preparedQuery("SELECT name FROM folks").execute().subscribe().with(rows -> {
+        });
+        assertThat(fake.pending).hasSize(4);
+        assertThat(cache.getMissCount()).isEqualTo(4);
+    }
+
+    @Test
+    public void testConcurrentMissesAreCollapsed() {
+        List<Recorder> subscribers = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            subscribers.add(client.query("SELECT name FROM folks").execute().subscribe().withSubscriber(new Recorder()));
+        }
+        assertThat(fake.pending).hasSize(1);
+
+        io.vertx.sqlclient.RowSet<io.vertx.sqlclient.Row> rows = fake.complete(0);
+        for (Recorder subscriber : subscribers) {
+            subscriber.assertSucceeded();
+            assertThat(subscriber.item.getDelegate()).isSameAs(rows);
+        }
+        assertThat(cache.getMissCount()).isEqualTo(3);
+        assertThat(cache.getHitCount()).isEqualTo(0);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void testFailuresAreNotCached() {
+        List<Recorder> subscribers = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            subscribers.add(client.query("SELECT name FROM folks").execute().subscribe().withSubscriber(new Recorder()));
+        }
+        IllegalStateException failure = new IllegalStateException("boom");
+        fake.fail(0, failure);
+        for (Recorder subscriber : subscribers) {
+            assertThat(subscriber.failure).isSameAs(failure);
+        }
+        assertThat(cache.size()).isEqualTo(0);
+
+        client.query("SELECT name FROM folks").execute().subscribe().with(rows -> {
+        });
+        assertThat(fake.pending).hasSize(2);
+    }
+
+    @Test
+    public void testExpiration() {
+        client.query("SELECT name FROM folks").execute().subscribe().with(rows -> {
+        });
+        fake.complete(0);
+
+        clock.addAndGet(Duration.ofSeconds(9).toNanos());
+        client.query("SELECT name FROM folks").execute().await().indefinitely();
+        assertThat(cache.getHitCount()).isEqualTo(1);
+
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        client.query("SELECT name FROM folks").execute().subscribe().with(rows -> {
+        });
+        assertThat(fake.pending).hasSize(2);
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEviction() {
+        for (int i = 1; i <= 2; i++) {
+            client.preparedQuery("SELECT name FROM folks WHERE id = $1").execute(Tuple.of(i)).subscribe()
+                    .with(rows -> {
+                    });
+            fake.complete(i - 1);
+        }
+        // Makes 2 the least recently used
+        client.preparedQuery("SELECT name FROM folks WHERE id = $1").execute(Tuple.of(1)).await().indefinitely();
+
+        client.preparedQuery("SELECT name FROM folks WHERE id = $1").execute(Tuple.of(3)).subscribe()
+                .with(rows -> {
+                });
+        fake.complete(2);
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+
+        client.preparedQuery("SELECT name FROM folks WHERE id = $1").execute(Tuple.of(1)).await().indefinitely();
+        assertThat(fake.pending).hasSize(3);
+        client.preparedQuery("SELECT name FROM folks WHERE id = $1").execute(Tuple.of(2)).subscribe()
+                .with(rows -> {
+                });
+        assertThat(fake.pending).hasSize(4);
+    }
+
+    @Test
+    public void testInvalidationByTag() {
+        SqlClient other = cache.client(SqlClient.newInstance(fake), "cities");
+        client.query("SELECT name FROM folks").execute().subscribe().with(rows -> {
+        });
+        other.query("SELECT name FROM cities").execute().subscribe().with(rows -> {
+        });
+        fake.complete(0);
+        fake.complete(1);
+
+        cache.invalidate("folks");
+        assertThat(cache.size()).isEqualTo(1);
+        other.query("SELECT name FROM cities").execute().await().indefinitely();
+        assertThat(cache.getHitCount()).isEqualTo(1);
+
+        cache.invalidateAll();
+        assertThat(cache.size()).isEqualTo(0);
+    }
+
+    @Test
+    public void testResultFetchedDuringInvalidationIsNotCached() {
+        Recorder first = client.query("SELECT name FROM folks").execute().subscribe().withSubscriber(new Recorder());
+        cache.invalidate("folks");
+        Recorder second = client.query("SELECT name FROM folks").execute().subscribe().withSubscriber(new Recorder());
+        assertThat(fake.pending).hasSize(2);
+
+        fake.complete(0);
+        first.assertSucceeded();
+        assertThat(second.done).isFalse();
+        assertThat(cache.size()).isEqualTo(0);
+
+        fake.complete(1);
+        second.assertSucceeded();
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void testBatchInvalidatesTheClientTags() {
+        client.query("SELECT name FROM folks").execute().subscribe().with(rows -> {
+        });
+        fake.complete(0);
+
+        client.preparedQuery("INSERT INTO folks (name) VALUES ($1)")
+                .executeBatch(Collections.singletonList(Tuple.of("Jane"))).subscribe().with(rows -> {
+                });
+        assertThat(cache.size()).isEqualTo(1);
+        fake.complete(1);
+        assertThat(cache.size()).isEqualTo(0);
+    }
+
+    @Test
+    public void testWritesAreNotCached() {
+        client.query("SELECT name FROM folks").execute().subscribe().with(rows -> {
+        });
+        fake.complete(0);
+
+        for (int i = 0; i < 2; i++) {
+            client.preparedQuery("INSERT INTO folks (name) VALUES ($1)").execute(Tuple.of("Jane")).subscribe()
+                    .with(rows -> {
+                    });
+        }
+        assertThat(fake.pending).hasSize(3);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+        assertThat(cache.size()).isEqualTo(1);
+
+        fake.complete(1);
+        assertThat(cache.size()).isEqualTo(0);
+        fake.complete(2);
+
+        client.query("DELETE FROM folks").execute().subscribe().with(rows -> {
+        });
+        client.query("DELETE FROM folks").execute().subscribe().with(rows -> {
+        });
+        assertThat(fake.pending).hasSize(5);
+    }
+
+    @Test
+    public void testLockingReadsAreNotCached() {
+        for (int i = 0; i < 2; i++) {
+            client.preparedQuery("SELECT name FROM folks WHERE id = $1 FOR UPDATE").execute(Tuple.of(1)).subscribe()
+                    .with(rows -> {
+                    });
+        }
+        assertThat(fake.pending).hasSize(2);
+        assertThat(CachingSqlClient.isCacheable(" (select name from folks) union (select name from cities)")).isTrue();
+        assertThat(CachingSqlClient.isCacheable("SELECT name FROM folks FOR SHARE")).isFalse();
+        assertThat(CachingSqlClient.isCacheable("SELECT name INTO names FROM folks")).isFalse();
+        assertThat(CachingSqlClient.isCacheable("WITH d AS (DELETE FROM folks RETURNING name) SELECT name FROM d"))
+                .isFalse();
+        assertThat(CachingSqlClient.isCacheable("UPDATE folks SET name = 'selected'")).isFalse();
+    }
+
+    @Test
+    public void testMappingIsNotCached() {
+        client.query("SELECT name FROM folks").mapping(row -> row.getString(0)).execute().subscribe()
+                .with(rows -> {
+                });
+        assertThat(fake.pending).hasSize(1);
+        assertThat(cache.getMissCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void testTransactionInvalidatesTheTags() {
+        client.query("SELECT name FROM folks").execute().subscribe().with(rows -> {
+        });
+        fake.complete(0);
+        Pool pool = Pool.newInstance(new FakePool());
+
+        SqlClientHelper.inTransactionUni(pool, tx -> tx.preparedQuery("DELETE FROM folks").execute(), cache, "folks")
+                .await().indefinitely();
+        assertThat(cache.size()).isEqualTo(0);
+
+        client.query("SELECT name FROM folks").execute().subscribe().with(rows -> {
+        });
+        fake.complete(1);
+        assertThatThrownBy(() -> SqlClientHelper.inTransactionUni(pool,
+                tx -> Uni.createFrom().failure(new IllegalStateException("boom")), cache, "folks")
+                .await().indefinitely()).isInstanceOf(IllegalStateException.class);
+        assertThat(cache.size()).isEqualTo(0);
+    }
+
+    private static class Recorder implements UniSubscriber<RowSet<Row>> {
+
+        volatile boolean done;
+        volatile RowSet<Row> item;
+        volatile Throwable failure;
+
+        @Override
+        public void onSubscribe(UniSubscription subscription) {
+        }
+
+        @Override
+        public void onItem(RowSet<Row> item) {
+            this.item = item;
+            done = true;
+        }
+
+        @Override
+        public void onFailure(Throwable failure) {
+            this.failure = failure;
+            done = true;
+        }
+
+        void assertSucceeded() {
+            assertThat(done).isTrue();
+            assertThat(failure).isNull();
+        }
+    }
+
+    /**
+     * A client whose executions are completed by the tests.
+     */
+    private static class FakeClient implements io.vertx.sqlclient.SqlClient {
+
+        final List<Handler<AsyncResult<io.vertx.sqlclient.RowSet<io.vertx.sqlclient.Row>>>> pending = new ArrayList<>();
+
+        io.vertx.sqlclient.RowSet<io.vertx.sqlclient.Row> complete(int index) {
+            io.vertx.sqlclient.RowSet<io.vertx.sqlclient.Row> rows = Fakes.rowSet();
+            pending.get(index).handle(Future.succeededFuture(rows));
+            return rows;
+        }
+
+        void fail(int index, Throwable failure) {
+            pending.get(index).handle(Future.failedFuture(failure));
+        }
+
+        @Override
+        public io.vertx.sqlclient.Query<io.vertx.sqlclient.RowSet<io.vertx.sqlclient.Row>> query(String sql) {
+            return new FakeQuery<>();
+        }
+
+        @Override
+        public io.vertx.sqlclient.PreparedQuery<io.vertx.sqlclient.RowSet<io.vertx.sqlclient.Row>> preparedQuery(
+                String sql) {
+            return new FakeQuery<>();
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        private class FakeQuery<T> implements io.vertx.sqlclient.PreparedQuery<T> {
+
+            @Override
+            public void execute(Handler<AsyncResult<T>> handler) {
+                pending.add((Handler) handler);
+            }
+
+            @Override
+            public void execute(io.vertx.sqlclient.Tuple tuple, Handler<AsyncResult<T>> handler) {
+                pending.add((Handler) handler);
+            }
+
+            @Override
+            public void executeBatch(List<io.vertx.sqlclient.Tuple> batch, Handler<AsyncResult<T>> handler) {
+                pending.add((Handler) handler);
+            }
+
+            @Override
+            public <R> io.vertx.sqlclient.PreparedQuery<io.vertx.sqlclient.SqlResult<R>> collecting(
+                    Collector<io.vertx.sqlclient.Row, ?, R> collector) {
+                return new FakeQuery<>();
+            }
+
+            @Override
+            public <U> io.vertx.sqlclient.PreparedQuery<io.vertx.sqlclient.RowSet<U>> mapping(
+                    Function<io.vertx.sqlclient.Row, U> mapper) {
+                return new FakeQuery<>();
+            }
+        }
+    }
+}
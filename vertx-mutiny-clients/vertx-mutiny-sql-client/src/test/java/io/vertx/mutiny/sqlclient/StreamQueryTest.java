@@ -0,0 +1,43 @@
+package io.vertx.mutiny.sqlclient;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.Test;
+
+public abstract class StreamQueryTest extends SqlClientHelperTestBase {
+
+    protected static final String ALL_NAMES_SQL = "select firstname from folks order by firstname asc";
+
+    @Test
+    public void streamAllRows() throws Exception {
+        List<String> actual = SqlClientHelper.streamQuery(pool, ALL_NAMES_SQL, null, 2)
+                .onItem().transform(row -> row.getString(0))
+                .collectItems().asList().await().indefinitely();
+        assertThat(actual).isEqualTo(NAMES.stream().sorted().collect(toList()));
+    }
+
+    @Test
+    public void streamWithFetchSizeLargerThanResult() throws Exception {
+        List<String> actual = SqlClientHelper.streamQuery(pool, ALL_NAMES_SQL, Tuple.tuple(), 100)
+                .onItem().transform(row -> row.getString(0))
+                .collectItems().asList().await().indefinitely();
+        assertThat(actual).isEqualTo(NAMES.stream().sorted().collect(toList()));
+    }
+
+    @Test
+    public void cancellationReleasesTheConnection() throws Exception {
+        for (int i = 0; i < getMaxPoolSize() + 1; i++) {
+            List<String> actual = SqlClientHelper.streamQuery(pool, ALL_NAMES_SQL, null, 1)
+                    .onItem().transform(row -> row.getString(0))
+                    .transform().byTakingFirstItems(2)
+                    .collectItems().asList().await().indefinitely();
+            assertThat(actual).isEqualTo(NAMES.stream().sorted().limit(2).collect(toList()));
+        }
+        assertTableContainsInitDataOnly();
+    }
+
+    protected abstract int getMaxPoolSize();
+}